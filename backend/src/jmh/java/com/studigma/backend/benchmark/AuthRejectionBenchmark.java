@@ -0,0 +1,70 @@
+package com.studigma.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studigma.backend.exception.AuthError;
+import com.studigma.backend.exception.InvalidCredentialsException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one rejected login: throw at the bottom of a request-deep stack,
+ * catch at the top, produce the body bytes. "legacy" is the old path
+ * (full stack trace + Map.of + Jackson per request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthRejectionBenchmark {
+
+    // Servlet container + filter chain + Spring MVC put ~100+ frames under a handler
+    @Param({"20", "120"})
+    public int stackDepth;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        try {
+            descend(stackDepth, false);
+            return null;
+        } catch (BadCredentialsException e) {
+            return objectMapper.writeValueAsBytes(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @Benchmark
+    public byte[] stackless() {
+        try {
+            descend(stackDepth, true);
+            return null;
+        } catch (InvalidCredentialsException e) {
+            return e.getError().getBody();
+        }
+    }
+
+    private static int descend(int depth, boolean stackless) {
+        if (depth == 0) {
+            throw stackless
+                    ? new InvalidCredentialsException(AuthError.INVALID_CREDENTIALS)
+                    : new BadCredentialsException("Invalid credentials");
+        }
+        return descend(depth - 1, stackless) + 1;
+    }
+}
@@ -0,0 +1,117 @@
+package com.studigma.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result against the stored baseline and exits non-zero
+ * when a benchmark got slower, or allocates more per op, beyond the allowed
+ * tolerance, or has no baseline entry at all. Baselines are machine-specific:
+ * refresh src/jmh/baseline.json from target/jmh-result.json when the
+ * benchmark host changes or a benchmark is added.
+ *
+ * Usage: BaselineCheck result.json baseline.json [scoreTolerance] [allocTolerance]
+ */
+public final class BaselineCheck {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    // Small absolute slack so 0 → 16 bytes/op isn't reported as +∞%
+    private static final double ALLOC_SLACK_BYTES = 16;
+
+    private BaselineCheck() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <result.json> <baseline.json> [scoreTolerance] [allocTolerance]");
+            System.exit(2);
+        }
+
+        double scoreTolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.15;
+        double allocTolerance = args.length > 3 ? Double.parseDouble(args[3]) : 0.10;
+
+        Map<String, JsonNode> results = index(args[0]);
+        Map<String, JsonNode> baseline = index(args[1]);
+
+        // Baseline entries missing from the run are fine (filtered with -Djmh.includes);
+        // a result without a baseline entry fails, so new benchmarks can't go unchecked
+        int regressions = 0;
+        int unmatched = 0;
+        for (Map.Entry<String, JsonNode> entry : results.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.err.printf("NO BASELINE %s: copy its entry from %s into %s%n", entry.getKey(), args[0], args[1]);
+                unmatched++;
+                continue;
+            }
+            regressions += compare(entry.getKey(), before, entry.getValue(), scoreTolerance, allocTolerance);
+        }
+
+        if (regressions > 0 || unmatched > 0) {
+            System.err.printf("%d benchmark regression(s), %d benchmark(s) without baseline%n", regressions, unmatched);
+            System.exit(1);
+        }
+        System.out.println("No regressions against baseline");
+    }
+
+    private static int compare(
+            String name,
+            JsonNode baseline,
+            JsonNode current,
+            double scoreTolerance,
+            double allocTolerance
+    ) {
+        int regressions = 0;
+
+        double before = baseline.at("/primaryMetric/score").asDouble();
+        double after = current.at("/primaryMetric/score").asDouble();
+
+        // Throughput: higher is better; time modes: lower is better
+        boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+        double change = higherIsBetter ? (before - after) / before : (after - before) / before;
+
+        if (change > scoreTolerance) {
+            System.err.printf("REGRESSION %s: score %.3f → %.3f (%.1f%% worse)%n", name, before, after, change * 100);
+            regressions++;
+        }
+
+        Double allocBefore = allocNorm(baseline);
+        Double allocAfter = allocNorm(current);
+        if (allocBefore != null && allocAfter != null
+                && allocAfter > allocBefore * (1 + allocTolerance) + ALLOC_SLACK_BYTES) {
+            System.err.printf("REGRESSION %s: allocation %.0f → %.0f B/op%n", name, allocBefore, allocAfter);
+            regressions++;
+        }
+
+        return regressions;
+    }
+
+    private static Double allocNorm(JsonNode benchmark) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = benchmark.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            // Older JMH versions prefix profiler metrics with '·'
+            if (metric.getKey().replace("·", "").equals(ALLOC_NORM)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return null;
+    }
+
+    // benchmark name + params → result entry
+    private static Map<String, JsonNode> index(String file) throws IOException {
+        Map<String, JsonNode> byName = new HashMap<>();
+        for (JsonNode benchmark : new ObjectMapper().readTree(new File(file))) {
+            String key = benchmark.path("benchmark").asText()
+                    + (benchmark.has("params") ? benchmark.get("params").toString() : "");
+            byName.put(key, benchmark);
+        }
+        return byName;
+    }
+}
@@ -0,0 +1,147 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.config.ConnectionLimitingDataSource;
+import com.studigma.backend.dto.LoginRequest;
+import com.studigma.backend.dto.RegisterRequest;
+import com.studigma.backend.service.UserService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// A burst of concurrent logins over HTTP against the full app on embedded
+// PostgreSQL (prod profile), spring.threads.virtual.enabled off vs on: Tomcat's
+// 200-thread pool vs a virtual thread per request behind
+// ConnectionLimitingDataSource. BCrypt runs at strength 4 with a queue as deep
+// as the burst, so blocking I/O, not hashing or load shedding, dominates.
+//
+// "virtual" needs a Java 21+ JVM (run the profile with a JDK 21 JAVA_HOME);
+// src/jmh/baseline.json holds both modes from such a run.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentLoginBenchmark {
+
+    private static final String EMAIL = "student@studigma.com";
+    private static final String PASSWORD = "password123";
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    // Larger bursts than the host serves within the Hikari connection-timeout
+    // fail in virtual mode: queued requests time out on the connection cap
+    @Param({"200"})
+    public int concurrentLogins;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest login;
+
+    @Setup
+    public void setUp() throws Exception {
+        boolean virtual = switch (mode) {
+            case "platform" -> false;
+            case "virtual" -> true;
+            default -> throw new IllegalArgumentException(mode);
+        };
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("mode=virtual needs a Java 21+ JVM, this is " + Runtime.version());
+        }
+
+        String jdbcUrl = EmbeddedDatabase.create("logins_" + mode);
+        context = EmbeddedDatabase.boot(jdbcUrl, "prod",
+                // The tree has no auth controller → mount login at its public path
+                app -> app.registerBean("benchmarkLoginRoute", RouterFunction.class,
+                        () -> loginRoute(app.getBean(UserService.class))),
+                "spring.threads.virtual.enabled=" + virtual,
+                "app.rate-limit.enabled=false",
+                "security.password.strength=4",
+                "security.password.queue-capacity=" + concurrentLogins,
+                "jwt.purge.enabled=false");
+
+        // The mode under test really is the one that booted
+        boolean limited = context.getBean(DataSource.class) instanceof ConnectionLimitingDataSource;
+        if (limited != virtual) {
+            throw new IllegalStateException("mode=" + mode + " but ConnectionLimitingDataSource active=" + limited);
+        }
+
+        RegisterRequest register = new RegisterRequest();
+        register.setName("Ada Student");
+        register.setEmail(EMAIL);
+        register.setPassword(PASSWORD);
+        context.getBean(UserService.class).register(register);
+
+        int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+
+        // Sequential, untimed: a burst against a cold JIT queues past the
+        // connection-timeout in virtual mode and fails the warmup iteration
+        for (int i = 0; i < concurrentLogins; i++) {
+            check(client.send(login, HttpResponse.BodyHandlers.discarding()));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrentLogins);
+        for (int i = 0; i < concurrentLogins; i++) {
+            responses.add(client.sendAsync(login, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int completed = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            check(response.join());
+            completed++;
+        }
+        return completed;
+    }
+
+    private static void check(HttpResponse<?> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login answered " + response.statusCode());
+        }
+    }
+
+    private static RouterFunction<ServerResponse> loginRoute(UserService userService) {
+        return RouterFunctions.route()
+                .POST("/api/auth/login", request ->
+                        ServerResponse.ok().body(userService.login(request.body(LoginRequest.class))))
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.StudigmaBackendApplication;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+// One embedded PostgreSQL per benchmark JVM, one database per benchmark
+final class EmbeddedDatabase {
+
+    private static EmbeddedPostgres postgres;
+
+    private EmbeddedDatabase() {}
+
+    static synchronized String create(String name) throws IOException, SQLException {
+        if (postgres == null) {
+            postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(EmbeddedDatabase::stop));
+        }
+
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop database if exists " + name);
+            statement.execute("create database " + name);
+        }
+        return postgres.getJdbcUrl("postgres", name);
+    }
+
+    // Full application context against the given database
+    static ConfigurableApplicationContext boot(String jdbcUrl, String profile, String... properties) {
+        return boot(jdbcUrl, profile, context -> {}, properties);
+    }
+
+    // Same, with benchmark-only beans registered before the refresh
+    static ConfigurableApplicationContext boot(String jdbcUrl, String profile,
+                                               ApplicationContextInitializer<GenericApplicationContext> initializer,
+                                               String... properties) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        // Command-line args → they win over application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--server.port=0",
+                "--logging.level.root=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+
+        return new SpringApplicationBuilder(StudigmaBackendApplication.class)
+                .profiles(profile)
+                .logStartupInfo(false)
+                .initializers(initializer)
+                .run(args.toArray(String[]::new));
+    }
+
+    private static synchronized void stop() {
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            // JVM is exiting anyway
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.enums.AuthProvider;
+import com.studigma.backend.service.impl.JwtServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Shared benchmark setup
+final class Fixtures {
+
+    private Fixtures() {}
+
+    static JwtProperties jwtProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-that-is-long-enough-for-hs256");
+        properties.setAccessExpiration(900_000);
+        properties.setRefreshExpiration(604_800_000);
+        return properties;
+    }
+
+    static JwtServiceImpl jwtService() {
+        return jwtService(jwtProperties());
+    }
+
+    static JwtServiceImpl jwtService(JwtProperties properties) {
+        JwtServiceImpl jwtService = new JwtServiceImpl(properties);
+        jwtService.init();
+        return jwtService;
+    }
+
+    static User user() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email("student@studigma.com")
+                .name("Ada Student")
+                .password("$2a$10$abcdefghijklmnopqrstuuQ0rP8o6w1VQKc1kY3kV9l2Pz7cQWy2")
+                .profileImageUrl("https://example.com/avatar.png")
+                .provider(AuthProvider.LOCAL)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
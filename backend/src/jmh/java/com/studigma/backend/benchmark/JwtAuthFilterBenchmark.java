@@ -0,0 +1,72 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.config.AdminProperties;
+import com.studigma.backend.config.JwtAuthFilter;
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.config.VerifiedTokenCache;
+import com.studigma.backend.repository.TokenRevocationRepository;
+import com.studigma.backend.service.impl.JwtServiceImpl;
+import com.studigma.backend.service.impl.TokenRevocationServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Whole JwtAuthFilter pass on a mock authenticated request, cold vs cached token
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean verifiedCache;
+
+    private JwtAuthFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = Fixtures.jwtProperties();
+        properties.setVerifiedCacheSize(verifiedCache ? 10_000 : 0);
+
+        JwtServiceImpl jwtService = Fixtures.jwtService(properties);
+        TokenRevocationServiceImpl revocations = new TokenRevocationServiceImpl(
+                Mockito.mock(TokenRevocationRepository.class), properties);
+
+        filter = new JwtAuthFilter(jwtService, new VerifiedTokenCache(properties), revocations, new AdminProperties(), new SimpleMeterRegistry());
+        authorization = "Bearer " + jwtService.generateAccessToken(Fixtures.user(), UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", authorization);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,80 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.config.RateLimitFilter;
+import com.studigma.backend.config.RateLimitProperties;
+import com.studigma.backend.config.RateLimitProperties.Limit;
+import com.studigma.backend.service.impl.TokenBucketRateLimiter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost the rate limiter adds per request: bucket lookup + CAS, and the whole
+ * filter on a mock /api/auth/login request. Expect well under a microsecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final String[] IPS = new String[10_000];
+
+    private TokenBucketRateLimiter rateLimiter;
+    private RateLimitFilter filter;
+    private Limit limit;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < IPS.length; i++) {
+            IPS[i] = "10.0." + (i >> 8) + "." + (i & 0xFF);
+        }
+
+        RateLimitProperties properties = new RateLimitProperties();
+        // Huge limit → measure the allowed path, not rejections
+        limit = new Limit("/api/auth/login", 1_000_000_000, 1_000_000_000);
+        properties.getEndpoints().put("login", limit);
+
+        rateLimiter = new TokenBucketRateLimiter(properties);
+        filter = new RateLimitFilter(rateLimiter, properties);
+    }
+
+    @Benchmark
+    public long sameClient() {
+        return rateLimiter.tryAcquire("/api/auth/login", IPS[0], limit);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long manyClientsContended() {
+        return rateLimiter.tryAcquire("/api/auth/login",
+                IPS[ThreadLocalRandom.current().nextInt(IPS.length)], limit);
+    }
+
+    @Benchmark
+    public int filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(IPS[ThreadLocalRandom.current().nextInt(IPS.length)]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
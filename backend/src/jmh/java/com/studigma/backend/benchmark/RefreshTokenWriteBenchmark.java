@@ -0,0 +1,89 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.entity.RefreshToken;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.repository.RefreshTokenRepository;
+import com.studigma.backend.repository.UserRepository;
+import com.studigma.backend.util.TokenUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Inserting a burst of refresh tokens in one transaction, prod profile, with
+// Hibernate JDBC batching off (0: one round trip per row, as with the old
+// IDENTITY ids) vs on (50 rows per batch, rewritten to multi-row INSERTs)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenWriteBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"0", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private RefreshTokenRepository refreshTokenRepository;
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @Setup
+    public void setUp() throws Exception {
+        String jdbcUrl = EmbeddedDatabase.create("writes_" + batchSize);
+        context = EmbeddedDatabase.boot(jdbcUrl, "prod",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "app.audit.enabled=false",
+                "jwt.purge.enabled=false");
+
+        refreshTokenRepository = context.getBean(RefreshTokenRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        User fixture = Fixtures.user();
+        fixture.setId(null);
+        user = context.getBean(UserRepository.class).save(fixture);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insertBurst() {
+        return transactionTemplate.execute(status -> {
+            List<RefreshToken> tokens = new ArrayList<>(ROWS);
+            LocalDateTime expiry = LocalDateTime.now().plusDays(7);
+
+            for (int i = 0; i < ROWS; i++) {
+                RefreshToken token = new RefreshToken();
+                token.setUser(user);
+                token.setFamilyId(UUID.randomUUID());
+                token.setTokenHash(TokenUtils.sha256(TokenUtils.newOpaqueToken()));
+                token.setExpiryDate(expiry);
+                tokens.add(token);
+            }
+            return refreshTokenRepository.saveAll(tokens).size();
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.config.StudigmaPrincipal;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.service.impl.JwtServiceImpl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Sign / verify cost per algorithm: shared HS256 secret vs ES256 key ring
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "ES256"})
+    public JwtProperties.Algorithm algorithm;
+
+    private JwtServiceImpl jwtService;
+    private User user;
+    private UUID sessionId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = Fixtures.jwtProperties();
+        properties.setAlgorithm(algorithm);   // ES256 without keys → ephemeral key
+
+        jwtService = Fixtures.jwtService(properties);
+        user = Fixtures.user();
+        sessionId = UUID.randomUUID();
+        token = jwtService.generateAccessToken(user, sessionId);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtService.generateAccessToken(user, sessionId);
+    }
+
+    @Benchmark
+    public StudigmaPrincipal verify() {
+        return jwtService.verifyAccessToken(token);
+    }
+}
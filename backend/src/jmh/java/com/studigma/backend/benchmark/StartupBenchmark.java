@@ -0,0 +1,55 @@
+package com.studigma.backend.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+// Application restart against an existing schema: dev profile (ddl-auto=update,
+// SQL logging) vs prod profile (Flyway + ddl-auto=validate, no SQL logging)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private String jdbcUrl;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void createSchema() throws Exception {
+        jdbcUrl = EmbeddedDatabase.create("startup_" + profile);
+        EmbeddedDatabase.boot(jdbcUrl, profile).close();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext start() {
+        context = EmbeddedDatabase.boot(jdbcUrl, profile);
+        return context;
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+}
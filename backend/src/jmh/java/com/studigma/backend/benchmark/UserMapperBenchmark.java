@@ -0,0 +1,39 @@
+package com.studigma.backend.benchmark;
+
+import com.studigma.backend.dto.UserDto;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.mapper.UserMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user();
+    }
+
+    @Benchmark
+    public UserDto toDto() {
+        return UserMapper.toDto(user);
+    }
+}
@@ -0,0 +1,18 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.admin")
+public class AdminProperties {
+
+    // Users whose tokens get ROLE_ADMIN (/api/admin/**)
+    private Set<UUID> userIds = new HashSet<>();
+}
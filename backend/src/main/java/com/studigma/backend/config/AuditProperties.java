@@ -0,0 +1,23 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    // Ring buffer slots (rounded up to a power of two)
+    private int bufferSize = 8192;
+
+    // Max rows per JDBC batch, and how long the writer idles between flushes
+    private int batchSize = 500;
+    private long flushIntervalMillis = 200;
+
+    // Monthly partitions created ahead of time
+    private int partitionsAhead = 2;
+}
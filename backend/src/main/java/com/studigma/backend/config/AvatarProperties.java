@@ -0,0 +1,29 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.avatar")
+public class AvatarProperties {
+
+    // Memory-mapped cache file, reused across restarts
+    private String cacheFile = System.getProperty("java.io.tmpdir") + "/studigma-avatars.cache";
+
+    // File size and fixed slot size (one avatar per slot)
+    private long cacheSizeBytes = 16L * 1024 * 1024;
+    private int slotSizeBytes = 1024;
+
+    // Browser / CDN freshness, then must-revalidate: the ETag changes with
+    // the initials, so a rename shows up within this window
+    private Duration maxAge = Duration.ofHours(1);
+
+    // Unknown user ids are remembered (and 404s cacheable) this long, so
+    // probing random ids doesn't reach the DB every time
+    private Duration missTtl = Duration.ofMinutes(1);
+    private long missCacheSize = 10_000;
+}
@@ -0,0 +1,58 @@
+package com.studigma.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.studigma.backend.service.CacheInvalidationBus;
+import com.studigma.backend.service.CacheInvalidationBus.Invalidation;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Near-cache: a local Caffeine cache whose evictions are also published so
+ * other nodes drop their copies. Still a CaffeineCache, so Actuator binds
+ * its hit / miss / eviction metrics as usual.
+ */
+public class BroadcastingCaffeineCache extends CaffeineCache {
+
+    private final CacheInvalidationBus bus;
+    private final String nodeId;
+
+    public BroadcastingCaffeineCache(
+            String name,
+            Cache<Object, Object> cache,
+            boolean allowNullValues,
+            CacheInvalidationBus bus,
+            String nodeId
+    ) {
+        super(name, cache, allowNullValues);
+        this.bus = bus;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        bus.publish(new Invalidation(nodeId, getName(), key.toString()));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        bus.publish(new Invalidation(nodeId, getName(), key.toString()));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        bus.publish(new Invalidation(nodeId, getName(), null));
+    }
+
+    // Apply an eviction received from another node (not re-published)
+    void evictLocally(String key) {
+        if (key == null) {
+            getNativeCache().invalidateAll();
+        } else {
+            getNativeCache().invalidate(key);
+        }
+    }
+}
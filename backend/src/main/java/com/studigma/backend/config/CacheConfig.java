@@ -0,0 +1,97 @@
+package com.studigma.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.studigma.backend.service.CacheInvalidationBus;
+import com.studigma.backend.service.impl.InMemoryCacheInvalidationBus;
+import com.studigma.backend.service.impl.PostgresCacheInvalidationBus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // User lookups (all keys are strings so they can cross the invalidation channel)
+    public static final String USERS_BY_ID = "users";
+    public static final String USERS_BY_EMAIL = "usersByEmail";
+    public static final String USERS_BY_GOOGLE_ID = "usersByGoogleId";
+    public static final String USER_EXISTS_BY_EMAIL = "userExistsByEmail";
+
+    private static final List<String> CACHE_NAMES =
+            List.of(USERS_BY_ID, USERS_BY_EMAIL, USERS_BY_GOOGLE_ID, USER_EXISTS_BY_EMAIL);
+
+    // 🗄 Bounded in-process caches; near-cache mode broadcasts evictions.
+    // Misses are never cached, and puts/evictions inside a transaction only
+    // apply after commit → a read racing a write can't re-cache the old row.
+    @Bean
+    public CacheManager cacheManager(
+            UserCacheProperties properties,
+            ObjectProvider<CacheInvalidationBus> invalidationBus
+    ) {
+        CacheInvalidationBus bus = invalidationBus.getIfAvailable();
+
+        CaffeineCacheManager cacheManager = bus == null
+                ? new CaffeineCacheManager()
+                : new NearCacheManager(bus);
+
+        cacheManager.setCacheSpecification(properties.getSpec());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(CACHE_NAMES);
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.near-cache.enabled", havingValue = "true")
+    public CacheInvalidationBus cacheInvalidationBus(
+            UserCacheProperties properties,
+            JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties
+    ) {
+        return switch (properties.getNearCache().getChannel()) {
+            case IN_MEMORY -> new InMemoryCacheInvalidationBus();
+            case POSTGRES -> new PostgresCacheInvalidationBus(jdbcTemplate, dataSourceProperties);
+        };
+    }
+
+    // Cache manager whose caches publish their evictions and apply remote ones
+    static class NearCacheManager extends CaffeineCacheManager {
+
+        private final CacheInvalidationBus bus;
+        private final String nodeId = UUID.randomUUID().toString();
+
+        NearCacheManager(CacheInvalidationBus bus) {
+            this.bus = bus;
+            bus.subscribe(invalidation -> {
+                if (invalidation.cacheName() == null) {
+                    getCacheNames().forEach(name -> evictLocally(name, null));
+                } else if (!nodeId.equals(invalidation.nodeId())) {
+                    evictLocally(invalidation.cacheName(), invalidation.key());
+                }
+            });
+        }
+
+        private void evictLocally(String cacheName, String key) {
+            if (getCache(cacheName) instanceof BroadcastingCaffeineCache cache) {
+                cache.evictLocally(key);
+            }
+        }
+
+        @Override
+        protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+            return new BroadcastingCaffeineCache(name, cache, isAllowNullValues(), bus, nodeId);
+        }
+    }
+}
@@ -1,29 +1,23 @@
 package com.studigma.backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.core.Ordered;
 
 @Configuration
 public class CorsConfig {
 
-    @Value("${app.frontend.url}")
-    private String frontendUrl;
-
+    // Ahead of the Spring Security chain → preflights skip JwtAuthFilter & co
     @Bean
-    public WebMvcConfigurer corsConfigurer() {
-        return new WebMvcConfigurer() {
-            @Override
-            public void addCorsMappings(CorsRegistry registry) {
+    public FilterRegistrationBean<CorsEdgeFilter> corsEdgeFilter(CorsProperties properties,
+                                                                 MeterRegistry meterRegistry) {
 
-                registry.addMapping("/**")
-                        .allowedOrigins(frontendUrl)
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH")
-                        .allowedHeaders("*")
-                        .allowCredentials(true);
-            }
-        };
+        FilterRegistrationBean<CorsEdgeFilter> registration =
+                new FilterRegistrationBean<>(new CorsEdgeFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
     }
 }
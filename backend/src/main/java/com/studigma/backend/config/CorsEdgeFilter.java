@@ -0,0 +1,127 @@
+package com.studigma.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * CORS in front of everything else (registered by CorsConfig).
+ *
+ * Preflights are answered here from header values joined once at startup and
+ * never reach Spring Security / JwtAuthFilter. Actual cross-origin requests
+ * only get their allow-origin headers added and continue down the chain.
+ */
+public class CorsEdgeFilter extends OncePerRequestFilter {
+
+    private static final String VARY_PREFLIGHT = String.join(", ",
+            HttpHeaders.ORIGIN,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+
+    private final CorsOrigins origins;
+
+    // Precomputed header values (null → header not sent)
+    private final String allowMethods;
+    private final String allowHeaders; // null → echo the request
+    private final String exposeHeaders;
+    private final String allowCredentials;
+    private final String maxAge;
+
+    // http.cors.preflight{outcome}: allowed | rejected
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public CorsEdgeFilter(CorsProperties properties, MeterRegistry meterRegistry) {
+        this.origins = new CorsOrigins(properties.getAllowedOrigins());
+        this.allowMethods = join(properties.getAllowedMethods());
+        this.allowHeaders = properties.getAllowedHeaders().contains("*")
+                ? null
+                : join(properties.getAllowedHeaders());
+        this.exposeHeaders = join(properties.getExposedHeaders());
+        this.allowCredentials = properties.isAllowCredentials() ? "true" : null;
+        this.maxAge = Long.toString(properties.getMaxAge().toSeconds());
+        this.allowed = preflights(meterRegistry, "allowed");
+        this.rejected = preflights(meterRegistry, "rejected");
+    }
+
+    private static Counter preflights(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("http.cors.preflight")
+                .description("CORS preflights answered by CorsEdgeFilter, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        if (origin == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean preflight = HttpMethod.OPTIONS.matches(request.getMethod())
+                && request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD) != null;
+
+        if (preflight) {
+            answerPreflight(request, response, origin);
+            return;
+        }
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+        if (origins.allows(origin)) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+            setIfPresent(response, HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, allowCredentials);
+            setIfPresent(response, HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, exposeHeaders);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // Methods / headers aren't checked here: the browser compares them with
+    // the lists we send and blocks the real request itself
+    private void answerPreflight(HttpServletRequest request, HttpServletResponse response, String origin) {
+        response.addHeader(HttpHeaders.VARY, VARY_PREFLIGHT);
+
+        if (!origins.allows(origin)) {
+            rejected.increment();
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+
+        allowed.increment();
+        response.setStatus(HttpStatus.NO_CONTENT.value());
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, allowMethods);
+        setIfPresent(response, HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, allowHeaders != null
+                ? allowHeaders
+                : request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS));
+        setIfPresent(response, HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, allowCredentials);
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, maxAge);
+    }
+
+    private static void setIfPresent(HttpServletResponse response, String name, String value) {
+        if (value != null) {
+            response.setHeader(name, value);
+        }
+    }
+
+    private static String join(List<String> values) {
+        return values.isEmpty() ? null : String.join(", ", values);
+    }
+}
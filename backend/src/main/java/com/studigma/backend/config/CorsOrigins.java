@@ -0,0 +1,80 @@
+package com.studigma.backend.config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Allowed-origin matcher without regexes.
+ *
+ * Exact origins are a set lookup. "scheme://*.host[:port]" patterns become a
+ * prefix/suffix pair plus one linear scan of the subdomain part, so matching
+ * is O(origin length) whatever the input.
+ */
+final class CorsOrigins {
+
+    private final Set<String> exact = new HashSet<>();
+    private final List<String> wildcardPrefixes = new ArrayList<>();
+    private final List<String> wildcardSuffixes = new ArrayList<>();
+
+    CorsOrigins(List<String> patterns) {
+        for (String raw : patterns) {
+            String pattern = normalize(raw);
+            int star = pattern.indexOf('*');
+
+            if (star < 0) {
+                exact.add(pattern);
+                continue;
+            }
+
+            int schemeEnd = pattern.indexOf("://");
+            if (schemeEnd < 0 || star != schemeEnd + 3
+                    || pattern.indexOf('*', star + 1) >= 0
+                    || !pattern.startsWith(".", star + 1)) {
+                throw new IllegalArgumentException(
+                        "Unsupported CORS origin pattern '" + raw + "', expected scheme://*.host[:port]");
+            }
+            wildcardPrefixes.add(pattern.substring(0, star));
+            wildcardSuffixes.add(pattern.substring(star + 1));
+        }
+    }
+
+    boolean allows(String origin) {
+        if (exact.contains(origin)) {
+            return true;
+        }
+        for (int i = 0; i < wildcardPrefixes.size(); i++) {
+            String prefix = wildcardPrefixes.get(i);
+            String suffix = wildcardSuffixes.get(i);
+            if (origin.length() > prefix.length() + suffix.length()
+                    && origin.startsWith(prefix)
+                    && origin.endsWith(suffix)
+                    && isSubdomain(origin, prefix.length(), origin.length() - suffix.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // One or more non-empty labels of [a-z0-9-]; no ports, paths or user info
+    private static boolean isSubdomain(String origin, int from, int to) {
+        char previous = '.';
+        for (int i = from; i < to; i++) {
+            char c = origin.charAt(i);
+            boolean label = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-';
+            if (!label && !(c == '.' && previous != '.')) {
+                return false;
+            }
+            previous = c;
+        }
+        return previous != '.';
+    }
+
+    // Browsers send lowercase scheme/host and no trailing slash
+    private static String normalize(String origin) {
+        String trimmed = origin.trim().toLowerCase(Locale.ROOT);
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.cors")
+public class CorsProperties {
+
+    // Exact origins or one leading wildcard label: https://*.studigma.com
+    private List<String> allowedOrigins = new ArrayList<>(List.of("http://localhost:3000"));
+
+    private List<String> allowedMethods = new ArrayList<>(List.of("GET", "POST", "PUT", "DELETE", "PATCH"));
+
+    // "*" → echo whatever the preflight asks for
+    private List<String> allowedHeaders = new ArrayList<>(List.of("Authorization", "Content-Type", "Accept", "If-None-Match"));
+
+    // Readable by the frontend (conditional GETs, 429 back-off)
+    private List<String> exposedHeaders = new ArrayList<>(List.of("ETag", "Retry-After"));
+
+    private boolean allowCredentials = true;
+
+    // Browsers cap this (Chromium 2h, Firefox 24h); longer only helps future browsers
+    private Duration maxAge = Duration.ofHours(24);
+}
@@ -0,0 +1,21 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.email-filter")
+public class EmailFilterProperties {
+
+    // Off → every registration checks the DB first
+    private boolean enabled = true;
+
+    // Sizing: ~1.2 MB for 1M emails at 1%. More users than this only raises the false-positive rate
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+
+    // Rows per round trip while warming from the users table
+    private int warmupFetchSize = 5_000;
+}
@@ -0,0 +1,56 @@
+package com.studigma.backend.config;
+
+import com.studigma.backend.service.GoogleKeySource;
+import com.studigma.backend.service.impl.GoogleKeyCache;
+import com.studigma.backend.service.impl.FileGoogleKeySource;
+import com.studigma.backend.service.impl.HttpGoogleKeySource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class GoogleConfig {
+
+    // 🔑 One shared key cache for every Google login.
+    // Tests can swap the origin by declaring their own GoogleKeySource bean
+    // (e.g. StaticGoogleKeySource).
+    @Bean
+    public GoogleKeyCache googleKeyCache(
+            GoogleKeysProperties properties,
+            ObjectProvider<GoogleKeySource> customSource,
+            Environment environment
+    ) {
+        GoogleKeySource origin = customSource.getIfAvailable(() -> originFor(properties, environment));
+
+        return new GoogleKeyCache(
+                origin,
+                properties.getRefreshAheadSeconds(),
+                properties.getRetrySeconds()
+        );
+    }
+
+    private GoogleKeySource originFor(GoogleKeysProperties properties, Environment environment) {
+        return switch (properties.getSource()) {
+            case FILE -> new FileGoogleKeySource(
+                    Path.of(properties.getFile()),
+                    properties.getFileMaxAgeSeconds());
+            case HTTP -> new HttpGoogleKeySource(properties.getCertsUrl(), httpExecutor(environment));
+        };
+    }
+
+    // 🧵 In virtual-thread mode the cert fetch also runs on virtual threads
+    private SimpleAsyncTaskExecutor httpExecutor(Environment environment) {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return null;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("google-keys-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
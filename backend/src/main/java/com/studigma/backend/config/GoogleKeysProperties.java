@@ -0,0 +1,29 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "google.keys")
+public class GoogleKeysProperties {
+
+    public enum Source { HTTP, FILE }
+
+    // Where Google's signing keys come from
+    private Source source = Source.HTTP;
+
+    // HTTP source: Google's PEM certificate endpoint (kid → certificate)
+    private String certsUrl = "https://www.googleapis.com/oauth2/v1/certs";
+
+    // FILE source: same JSON format, read from disk (load tests / offline)
+    private String file;
+    private long fileMaxAgeSeconds = 300;
+
+    // Refresh this long before the cached keys expire
+    private long refreshAheadSeconds = 300;
+
+    // Back-off between retries after a failed fetch (stale keys keep serving)
+    private long retrySeconds = 30;
+}
@@ -5,23 +5,55 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.studigma.backend.service.JwtService;
+import com.studigma.backend.service.TokenRevocationService;
 
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final AdminProperties adminProperties;
+
+    // auth.jwt.requests{result}: cached | verified | invalid | revoked
+    private final Counter cached;
+    private final Counter verified;
+    private final Counter invalid;
+    private final Counter revoked;
+
+    public JwtAuthFilter(
+            JwtService jwtService,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationService tokenRevocationService,
+            AdminProperties adminProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.adminProperties = adminProperties;
+        this.cached = requests(meterRegistry, "cached");
+        this.verified = requests(meterRegistry, "verified");
+        this.invalid = requests(meterRegistry, "invalid");
+        this.revoked = requests(meterRegistry, "revoked");
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.jwt.requests")
+                .description("Bearer tokens seen by JwtAuthFilter, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -40,25 +72,33 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         String token = header.substring(7);
 
-        // Validate token
-        if (jwtService.isTokenValid(token)) {
-
-            String email = jwtService.extractEmail(token);
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            email,
-                            null,
-                            null // No roles for now
-                    );
-
-            authentication.setDetails(
-                    new WebAuthenticationDetailsSource()
-                            .buildDetails(request)
-            );
+        // Already verified recently → skip signature check
+        StudigmaPrincipal principal = verifiedTokenCache.get(token);
+
+        if (principal != null) {
+            cached.increment();
+        } else {
+            // Validate token (signature + expiry, single parse)
+            principal = jwtService.verifyAccessToken(token);
+
+            if (principal != null) {
+                verified.increment();
+                verifiedTokenCache.put(token, principal);
+            } else {
+                invalid.increment();
+            }
+        }
 
-            SecurityContextHolder.getContext()
-                    .setAuthentication(authentication);
+        // Logged-out / revoked session → in-memory check, no DB hit
+        if (principal != null) {
+            if (tokenRevocationService.isRevoked(principal.getSessionId())) {
+                revoked.increment();
+            } else {
+                // Details + authorities are resolved lazily by JwtAuthentication
+                SecurityContextHolder.getContext()
+                        .setAuthentication(new JwtAuthentication(principal, request,
+                                adminProperties.getUserIds().contains(principal.getUserId())));
+            }
         }
 
         filterChain.doFilter(request, response);
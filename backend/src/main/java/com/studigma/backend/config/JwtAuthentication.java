@@ -0,0 +1,84 @@
+package com.studigma.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authentication for a verified access token. Authorities and request details
+ * are only built if something asks for them, so the filter's hot path
+ * allocates nothing beyond this object.
+ */
+public class JwtAuthentication extends AbstractAuthenticationToken {
+
+    private static final List<GrantedAuthority> ADMIN_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
+    private final StudigmaPrincipal principal;
+    private final boolean admin;
+
+    // Only used to resolve details lazily, while the request is in flight
+    private transient HttpServletRequest request;
+    private Object details;
+
+    public JwtAuthentication(StudigmaPrincipal principal, HttpServletRequest request, boolean admin) {
+        super(null); // Users have no roles → shared empty authority list
+        this.principal = principal;
+        this.request = request;
+        this.admin = admin;
+        setAuthenticated(true);
+    }
+
+    // Admins (AdminProperties) share one constant list
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return admin ? ADMIN_AUTHORITIES : super.getAuthorities();
+    }
+
+    @Override
+    public StudigmaPrincipal getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return principal.getName();
+    }
+
+    @Override
+    public Object getDetails() {
+        if (details == null && request != null) {
+            details = new WebAuthenticationDetails(request);
+            request = null;
+        }
+        return details;
+    }
+
+    @Override
+    public void setDetails(Object details) {
+        this.details = details;
+        this.request = null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof JwtAuthentication other
+                && principal.equals(other.principal);
+    }
+
+    @Override
+    public int hashCode() {
+        return principal.hashCode();
+    }
+}
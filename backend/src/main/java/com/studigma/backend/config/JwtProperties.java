@@ -3,13 +3,68 @@ package com.studigma.backend.config;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
 
+    public enum Algorithm { HS256, ES256 }
+
+    public enum TokenFormat { STANDARD, COMPACT }
+
+    // HS256: shared secret below. ES256: key ring, public keys on /.well-known/jwks.json
+    private Algorithm algorithm = Algorithm.HS256;
+
+    // HS256 signing secret
     private String secret;
+
+    // ES256 mode only: keep accepting HS256 tokens without kid (signed with the
+    // secret above) so switching algorithms doesn't log anyone out. Turn off
+    // one access-token lifetime after the switch: while on, anyone holding
+    // the secret can still mint accepted tokens
+    private boolean acceptLegacyHs256 = false;
+
+    // ES256 key ring: new tokens are signed with activeKid (default: last key
+    // with a private key), every listed key keeps verifying → rotation = add a
+    // key, switch activeKid, drop the old one after one access-token lifetime.
+    // No keys → an ephemeral key per process (dev only).
+    private String activeKid;
+    private List<SigningKey> keys = new ArrayList<>();
+
     private long accessExpiration;
+
+    // STANDARD: sub=email + userId/provider/sid claims (jjwt).
+    // COMPACT: sub=short userId, one-char provider, no email, parsed without
+    // a JSON tree. Both formats always verify, so switching is safe mid-flight.
+    private TokenFormat tokenFormat = TokenFormat.STANDARD;
     private long refreshExpiration;
+
+    // Reuse of a rotated refresh token within this window (parallel tabs)
+    // gets a sibling token instead of revoking the family
+    private long refreshReuseGrace = 10_000;
+
+    // Max entries kept in the verified-token cache (JwtAuthFilter)
+    private int verifiedCacheSize = 10_000;
+
+    // How often each node replays the token_revocations change log
+    private long revocationPollMillis = 2_000;
+
+    // Trailing window every replay re-scans: ids are assigned at insert, so a
+    // revocation can commit after higher ids were replayed. Must exceed the
+    // longest transaction that revokes a session (logout, refresh reuse)
+    private long revocationReplayOverlapMillis = 60_000;
+
+    @Data
+    public static class SigningKey {
+        private String kid;
+
+        // PEM: PKCS#8 private key (omit for verify-only keys), X.509 public key
+        private Resource privateKey;
+        private Resource publicKey;
+    }
 }
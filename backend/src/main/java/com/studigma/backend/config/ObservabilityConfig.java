@@ -0,0 +1,68 @@
+package com.studigma.backend.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Observations (timers with histograms, plus spans once a tracer bridge is on
+ * the classpath) for auth work. Services use @Observed; repositories get an
+ * interceptor so each query shows up as auth.db under the calling operation.
+ *
+ * Tags are fixed sets only (operation, repository, method, error class) —
+ * never user ids, emails or token values.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    // Registered only for a positive threshold: 0 turns slow-call logging off
+    @Bean
+    @ConditionalOnExpression("${app.observability.slow-auth-millis:500} > 0")
+    public SlowAuthObservationLogger slowAuthObservationLogger(ObservabilityProperties properties) {
+        return new SlowAuthObservationLogger(properties.getSlowAuthMillis());
+    }
+
+    // Must run before the repository factory beans build their proxies
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                                    proxyFactory.addAdvice(observing(
+                                            observationRegistry,
+                                            information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor observing(ObjectProvider<ObservationRegistry> observationRegistry, String repository) {
+        // Resolved on first call: the registry may not exist yet at proxy creation
+        SingletonSupplier<ObservationRegistry> registry =
+                SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+
+        return invocation -> {
+            if (invocation.getMethod().getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            return Observation.createNotStarted("auth.db", registry.obtain())
+                    .lowCardinalityKeyValue("repository", repository)
+                    .lowCardinalityKeyValue("method", invocation.getMethod().getName())
+                    .observeChecked(invocation::proceed);
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.observability")
+public class ObservabilityProperties {
+
+    // Auth operations slower than this log their step breakdown (0 = off)
+    private long slowAuthMillis = 500;
+}
@@ -0,0 +1,24 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+
+    // BCrypt cost used when adaptive mode is off
+    private int strength = 10;
+
+    // Pick the cost at startup by benchmarking toward targetMillis
+    private boolean adaptive = false;
+    private long targetMillis = 100;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    // Hashing executor (0 threads → one per core)
+    private int threads = 0;
+    private int queueCapacity = 64;
+}
@@ -0,0 +1,69 @@
+package com.studigma.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.studigma.backend.config.RateLimitProperties.Limit;
+import com.studigma.backend.exception.AuthError;
+import com.studigma.backend.service.RateLimiter;
+
+import java.io.IOException;
+
+// Per-IP limits for /api/auth/** and the public avatars (runs before JwtAuthFilter)
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return properties.getPathPrefixes().stream().noneMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Limit limit = limitFor(request.getRequestURI());
+
+        long retryAfter = rateLimiter.tryAcquire(limit.getPath(), request.getRemoteAddr(), limit);
+
+        if (retryAfter > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            response.getOutputStream().write(AuthError.TOO_MANY_REQUESTS.getBody());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Limit limitFor(String path) {
+        for (Limit limit : properties.getEndpoints().values()) {
+            if (limit.matches(path)) {
+                return limit;
+            }
+        }
+        return properties.getDefaultLimit();
+    }
+}
@@ -0,0 +1,57 @@
+package com.studigma.backend.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Paths under these prefixes are limited per client IP
+    private List<String> pathPrefixes = new ArrayList<>(List.of("/api/auth/", "/api/avatars/"));
+
+    // Per-IP limit for paths without their own entry
+    private Limit defaultLimit = new Limit("/api/auth/**", 30, 30);
+
+    // Per-endpoint overrides, keyed by a name (login, register, google...).
+    // A path ending in /** covers everything below it.
+    private Map<String, Limit> endpoints = new LinkedHashMap<>();
+
+    // Per-account (email) limit applied by login / register
+    private Limit account = new Limit("account", 10, 5);
+
+    // Buckets untouched (and full) for this long are dropped
+    private long idleEvictSeconds = 600;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        // Request path (also names the bucket scope)
+        private String path;
+
+        // Burst size
+        private int capacity;
+
+        // Sustained rate
+        private int refillPerMinute;
+
+        public boolean matches(String requestPath) {
+            return path.endsWith("/**")
+                    ? requestPath.startsWith(path.substring(0, path.length() - 2))
+                    : requestPath.equals(path);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.studigma.backend.config;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -11,17 +13,51 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+@Slf4j
 @Configuration
 @EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     // 🔐 Password Encoder Bean
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+
+        int strength = properties.isAdaptive()
+                ? calibrateStrength(properties)
+                : properties.getStrength();
+
+        log.info("Using BCrypt strength {}", strength);
+
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    // ⏱ Adaptive cost: highest strength whose hash stays within the target latency
+    private int calibrateStrength(PasswordHashingProperties properties) {
+
+        int strength = properties.getMinStrength();
+
+        while (strength < properties.getMaxStrength()) {
+            // Each extra cost step doubles the work
+            if (measureMillis(strength) * 2 > properties.getTargetMillis()) {
+                break;
+            }
+            strength++;
+        }
+
+        return strength;
+    }
+
+    private long measureMillis(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration"); // warm-up
+
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return (System.nanoTime() - start) / 1_000_000;
     }
 
     // 🔐 Security Configuration
@@ -30,7 +66,7 @@ public class SecurityConfig {
 
         http
                 .csrf(csrf -> csrf.disable())
-                .cors(cors -> {}) // Uses CorsConfig
+                .cors(cors -> cors.disable()) // CorsEdgeFilter answers before this chain (CorsConfig)
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
@@ -39,9 +75,14 @@ public class SecurityConfig {
                         // Public APIs
                         .requestMatchers(
                                 "/api/auth/**",
+                                "/.well-known/jwks.json",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**"
                         ).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/avatars/*").permitAll()
+
+                        // Admin console (AdminProperties.userIds)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
                         // All other APIs require authentication
                         .anyRequest()
@@ -49,7 +90,10 @@ public class SecurityConfig {
                 )
 
                 // Add JWT filter
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // Rate limit /api/auth/** before any token work
+                .addFilterBefore(rateLimitFilter, JwtAuthFilter.class);
 
         return http.build();
     }
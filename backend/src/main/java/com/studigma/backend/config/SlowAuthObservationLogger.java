@@ -0,0 +1,93 @@
+package com.studigma.backend.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local "trace" for slow auth calls: every observation nested under an
+ * auth.user observation (password hash, DB calls, Google, JWT) records its
+ * duration on the root; when the root is slow, the breakdown is logged.
+ */
+@Slf4j
+public class SlowAuthObservationLogger implements ObservationHandler<Observation.Context> {
+
+    static final String ROOT = "auth.user";
+
+    private static final String STARTED = SlowAuthObservationLogger.class.getName() + ".started";
+    private static final String STEPS = SlowAuthObservationLogger.class.getName() + ".steps";
+
+    private final long thresholdNanos;
+
+    public SlowAuthObservationLogger(long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(STARTED, System.nanoTime());
+        if (ROOT.equals(context.getName())) {
+            context.put(STEPS, new ConcurrentLinkedQueue<String>());
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Long started = context.get(STARTED);
+        if (started == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - started;
+
+        if (ROOT.equals(context.getName())) {
+            if (elapsed >= thresholdNanos) {
+                log.info("Slow {} ({} ms): {}", label(context), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        String.join(", ", context.<Queue<String>>get(STEPS)));
+            }
+            return;
+        }
+
+        Queue<String> steps = rootSteps(context);
+        if (steps != null) {
+            steps.add(label(context) + "=" + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms");
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    private static Queue<String> rootSteps(Observation.Context context) {
+        ObservationView parent = context.getParentObservation();
+        while (parent != null) {
+            Observation.ContextView view = parent.getContextView();
+            if (ROOT.equals(view.getName())) {
+                return view.get(STEPS);
+            }
+            parent = view.getParentObservation();
+        }
+        return null;
+    }
+
+    // auth.db[UserRepository.findByEmail], auth.password[verify], ...
+    private static String label(Observation.ContextView context) {
+        KeyValue operation = context.getLowCardinalityKeyValue("operation");
+        if (operation != null) {
+            return context.getName() + "[" + operation.getValue() + "]";
+        }
+        KeyValue repository = context.getLowCardinalityKeyValue("repository");
+        KeyValue method = context.getLowCardinalityKeyValue("method");
+        if (repository != null && method != null) {
+            return context.getName() + "[" + repository.getValue() + "." + method.getValue() + "]";
+        }
+        return context.getName();
+    }
+}
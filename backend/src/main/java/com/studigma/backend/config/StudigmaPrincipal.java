@@ -0,0 +1,31 @@
+package com.studigma.backend.config;
+
+import com.studigma.backend.enums.AuthProvider;
+
+import lombok.Value;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Caller identity taken straight from the verified access-token claims, so
+ * endpoints never need {@code findByEmail} just to learn who is calling.
+ */
+@Value
+public class StudigmaPrincipal implements Principal {
+
+    UUID userId;
+    String email;
+    AuthProvider provider;
+
+    // sid claim, kept as the raw string for allocation-free revocation checks
+    String sessionId;
+
+    // Token expiry (epoch millis)
+    long expiresAt;
+
+    @Override
+    public String getName() {
+        return email != null ? email : userId.toString();
+    }
+}
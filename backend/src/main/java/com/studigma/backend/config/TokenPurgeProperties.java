@@ -0,0 +1,26 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "jwt.purge")
+public class TokenPurgeProperties {
+
+    private boolean enabled = true;
+
+    // Delay between runs
+    private long intervalMillis = 300_000;
+
+    // Rows per DELETE and max DELETEs per run
+    private int chunkSize = 1_000;
+    private int maxChunks = 500;
+
+    // Breather between chunks
+    private long pauseMillis = 50;
+
+    // A chunk slower than this means the DB is busy → end the run early
+    private long maxChunkMillis = 250;
+}
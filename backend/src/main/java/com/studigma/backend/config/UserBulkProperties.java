@@ -0,0 +1,20 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.user-bulk")
+public class UserBulkProperties {
+
+    // Rows hashed and inserted together; also the progress reporting step
+    private int batchSize = 500;
+
+    // BCrypt threads for imports (0 → half the cores, the rest stay for logins)
+    private int hashParallelism = 0;
+
+    // Rows per round trip while streaming an export
+    private int exportFetchSize = 1_000;
+}
@@ -0,0 +1,28 @@
+package com.studigma.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class UserCacheProperties {
+
+    public enum Channel { IN_MEMORY, POSTGRES }
+
+    // Caffeine spec shared by all user caches (recordStats feeds Actuator)
+    private String spec = "maximumSize=10000,expireAfterWrite=10m,recordStats";
+
+    private NearCache nearCache = new NearCache();
+
+    @Data
+    public static class NearCache {
+
+        // Broadcast evictions so other nodes drop their copies.
+        // Required with more than one node: otherwise a node serves its copy
+        // of an updated user until expireAfterWrite
+        private boolean enabled = false;
+        private Channel channel = Channel.POSTGRES;
+    }
+}
@@ -0,0 +1,74 @@
+package com.studigma.backend.config;
+
+import com.studigma.backend.util.TokenUtils;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of access tokens whose signature has already been verified.
+ * Keyed by the SHA-256 of the raw token, so a hit skips HMAC verification
+ * and claim parsing. Entries are dropped as soon as the token's exp passes.
+ * The cached principal is immutable, so a hit allocates nothing new.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final ConcurrentHashMap<ByteBuffer, StudigmaPrincipal> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public VerifiedTokenCache(JwtProperties jwtProperties) {
+        this.maxSize = jwtProperties.getVerifiedCacheSize();
+    }
+
+    // 🔍 Cached principal for this token, or null on miss / expiry
+    public StudigmaPrincipal get(String token) {
+        ByteBuffer key = hash(token);
+        StudigmaPrincipal principal = entries.get(key);
+
+        if (principal == null) {
+            return null;
+        }
+
+        if (principal.getExpiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, principal);
+            return null;
+        }
+
+        return principal;
+    }
+
+    // 💾 Remember a freshly verified token until it expires
+    public void put(String token, StudigmaPrincipal principal) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evictExpired();
+            if (entries.size() >= maxSize) {
+                return; // Full of live tokens → just skip caching
+            }
+        }
+
+        entries.put(hash(token), principal);
+    }
+
+    // 🧹 Drop entries whose token has expired
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(principal -> principal.getExpiresAt() <= now);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static ByteBuffer hash(String token) {
+        return ByteBuffer.wrap(TokenUtils.sha256(token));
+    }
+}
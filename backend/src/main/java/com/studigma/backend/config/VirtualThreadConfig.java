@@ -0,0 +1,41 @@
+package com.studigma.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Virtual-thread mode (spring.threads.virtual.enabled=true, Java 21+ runtime).
+ * Boot then serves requests on virtual threads; here we add a DB concurrency
+ * cap so unbounded request concurrency can't stampede the Hikari pool.
+ *
+ * Pinning audit for this mode: no synchronized blocks in our code, the
+ * PostgreSQL driver (42.7) and Hikari use j.u.c locks, and CPU-bound BCrypt
+ * stays on its own bounded platform pool (PasswordHashServiceImpl).
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConnectionLimitingDataSource(
+                            hikari,
+                            hikari.getMaximumPoolSize(),
+                            hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
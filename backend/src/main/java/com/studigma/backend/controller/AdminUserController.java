@@ -0,0 +1,183 @@
+package com.studigma.backend.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.studigma.backend.service.UserBulkService;
+import com.studigma.backend.service.UserBulkService.Format;
+import com.studigma.backend.service.UserBulkService.ImportListener;
+import com.studigma.backend.service.UserBulkService.ImportProgress;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// 🛠 Admin console bulk onboarding (ROLE_ADMIN, see SecurityConfig)
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final UserBulkService userBulkService;
+    private final ObjectMapper objectMapper;
+
+    // Body: CSV (header email,name,password) or NDJSON, read as it arrives.
+    // Response: NDJSON events while it runs → "error" per rejected row,
+    // "progress" per batch, then "done" (or "aborted")
+    @PostMapping(value = "/import", consumes = {TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE})
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        Format format = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON) ? Format.NDJSON : Format.CSV;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        Reader source = new InputStreamReader(request.getInputStream(), charset);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ImportEvents events = new ImportEvents(newJsonLines(response), response);
+
+        ImportProgress result;
+        try {
+            result = userBulkService.importUsers(source, format, events);
+        } catch (UncheckedIOException e) {
+            log.warn("User import stopped, client went away: {}", e.getMessage());
+            return;
+        } catch (RuntimeException e) {
+            // Nothing sent yet (e.g. bad CSV header) → regular error response
+            if (!response.isCommitted()) {
+                response.reset();
+                throw e;
+            }
+            log.error("User import aborted", e);
+            events.aborted();
+            return;
+        }
+        events.done(result);
+    }
+
+    // ?format=csv (default) | ndjson, streamed from a DB cursor
+    @GetMapping("/export")
+    public void exportUsers(@RequestParam(defaultValue = "csv") String format,
+                            HttpServletResponse response) throws IOException {
+
+        Format parsed = parseFormat(format);
+        response.setContentType(parsed == Format.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + format.toLowerCase(Locale.ROOT))
+                .build()
+                .toString());
+
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        userBulkService.exportUsers(parsed, out);
+        out.flush();
+    }
+
+    private static Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown format '" + format + "', expected csv or ndjson");
+        }
+    }
+
+    private JsonGenerator newJsonLines(HttpServletResponse response) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.setRootValueSeparator(null);
+        return json;
+    }
+
+    // One JSON object per line; flushed to the client after every batch
+    private record ImportEvents(JsonGenerator json, HttpServletResponse response) implements ImportListener {
+
+        @Override
+        public void rowFailed(long line, String email, String reason) {
+            event("error", () -> {
+                json.writeNumberField("line", line);
+                if (email != null) {
+                    json.writeStringField("email", email);
+                }
+                json.writeStringField("error", reason);
+            });
+        }
+
+        @Override
+        public void progress(ImportProgress progress) {
+            totals("progress", progress);
+        }
+
+        void done(ImportProgress result) {
+            totals("done", result);
+        }
+
+        void aborted() {
+            event("aborted", () -> json.writeStringField("error",
+                    "Import failed; rows counted in the last progress event were saved"));
+            flush();
+        }
+
+        private void totals(String event, ImportProgress progress) {
+            event(event, () -> {
+                json.writeNumberField("processed", progress.processed());
+                json.writeNumberField("imported", progress.imported());
+                json.writeNumberField("failed", progress.failed());
+            });
+            flush();
+        }
+
+        private void event(String type, JsonWrite fields) {
+            io(() -> {
+                json.writeStartObject();
+                json.writeStringField("event", type);
+                fields.run();
+                json.writeEndObject();
+                json.writeRaw('\n');
+            });
+        }
+
+        private void flush() {
+            io(() -> {
+                json.flush();
+                response.flushBuffer();
+            });
+        }
+
+        // The client went away → unchecked, ends the import
+        private static void io(JsonWrite write) {
+            try {
+                write.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonWrite {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,68 @@
+package com.studigma.backend.controller;
+
+import com.studigma.backend.config.AvatarProperties;
+import com.studigma.backend.service.AvatarService;
+import com.studigma.backend.service.AvatarService.Avatar;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+import java.util.UUID;
+
+// 🖼 Self-hosted initials avatars (public: <img> tags send no token)
+@RestController
+@RequiredArgsConstructor
+public class AvatarController {
+
+    private final AvatarService avatarService;
+    private final AvatarProperties properties;
+
+    @GetMapping(AvatarService.PATH + "{userId}")
+    public void avatar(@PathVariable UUID userId,
+                       ServletWebRequest webRequest,
+                       HttpServletResponse response) throws IOException {
+
+        Optional<Avatar> found = avatarService.find(userId);
+        if (found.isEmpty()) {
+            // Plain status: sendError would dispatch to the secured /error page
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    CacheControl.maxAge(properties.getMissTtl()).cachePublic().getHeaderValue());
+            return;
+        }
+
+        try (Avatar avatar = found.get()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    CacheControl.maxAge(properties.getMaxAge()).cachePublic().mustRevalidate().getHeaderValue());
+
+            // If-None-Match hit → 304, no body
+            if (webRequest.checkNotModified(avatar.etag())) {
+                return;
+            }
+
+            ByteBuffer body = avatar.body();
+            response.setContentType(AvatarService.CONTENT_TYPE);
+            response.setContentLength(body.remaining());
+            response.setHeader("X-Content-Type-Options", "nosniff");
+            response.setHeader("Content-Security-Policy", "default-src 'none'; style-src 'unsafe-inline'");
+
+            // Straight from the mapped cache slot into the response buffer
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            while (body.hasRemaining()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.studigma.backend.controller;
+
+import com.studigma.backend.service.JwtService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+// 🔑 Public keys for verifying our access tokens locally (by kid)
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtService jwtService;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtService.jwks());
+    }
+}
@@ -0,0 +1,48 @@
+package com.studigma.backend.controller;
+
+import com.studigma.backend.config.StudigmaPrincipal;
+import com.studigma.backend.dto.UserDto;
+import com.studigma.backend.dto.UserFieldsDto;
+import com.studigma.backend.mapper.UserMapper;
+import com.studigma.backend.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserService userService;
+
+    // 👤 Cheap profile poll: ?fields=id,email,provider never touches the DB
+    // (email only on STANDARD tokens); If-None-Match → 304
+    @GetMapping("/me")
+    public ResponseEntity<UserFieldsDto> me(@AuthenticationPrincipal StudigmaPrincipal principal,
+                                            @RequestParam(required = false) Set<String> fields,
+                                            WebRequest webRequest) {
+
+        UserDto user = userService.me(principal, fields);
+        String etag = UserMapper.etag(user);
+
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new UserFieldsDto(user));
+    }
+}
@@ -0,0 +1,17 @@
+package com.studigma.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshRequest {
+
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+
+    // Send the user back? Skipped anyway when userEtag still matches
+    private boolean includeUser;
+
+    // ETag of the user object the client already holds (If-None-Match style)
+    private String userEtag;
+}
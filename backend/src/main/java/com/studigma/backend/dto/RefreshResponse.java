@@ -0,0 +1,18 @@
+package com.studigma.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Lightweight refresh answer: user only when asked for and changed
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RefreshResponse {
+
+    private String accessToken;
+    private String refreshToken;
+    private UserDto user;
+    private String userEtag;
+}
@@ -0,0 +1,13 @@
+package com.studigma.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// GET /api/users/me?fields=...: fields that weren't asked for are left out,
+// unlike UserDto in the auth responses where they stay as null
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserFieldsDto extends UserDto {
+
+    public UserFieldsDto(UserDto user) {
+        super(user.getId(), user.getEmail(), user.getName(), user.getProfileImageUrl(), user.getProvider());
+    }
+}
@@ -1,14 +1,18 @@
 package com.studigma.backend.entity;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,8 +21,10 @@ import lombok.Setter;
 @Table(
 	    name = "refresh_tokens",
 	    indexes = {
-	        @Index(name = "idx_refresh_token", columnList = "token"),
-	        @Index(name = "idx_refresh_user", columnList = "user_id")
+	        @Index(name = "idx_refresh_token", columnList = "token_hash", unique = true),
+	        @Index(name = "idx_refresh_user", columnList = "user_id"),
+	        @Index(name = "idx_refresh_family", columnList = "family_id"),
+	        @Index(name = "idx_refresh_expiry", columnList = "expiry_date")
 	    }
 	)
 
@@ -26,18 +32,27 @@ import lombok.Setter;
 @Setter
 public class RefreshToken {
 
+    // Pooled sequence: one nextval per 50 rows, and unlike IDENTITY it
+    // leaves Hibernate's JDBC insert batching on
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // SHA-256 of the opaque token handed to the client (32 bytes)
+    @Column(name = "token_hash", nullable = false, length = 32)
+    private byte[] tokenHash;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    private LocalDateTime expiryDate;
-}
+    // One family per device/login; every rotation stays in the same family
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
 
+    private LocalDateTime expiryDate;
 
+    // Set when the token is rotated; a second use means it leaked
+    private LocalDateTime usedAt;
+}
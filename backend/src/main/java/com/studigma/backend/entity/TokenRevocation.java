@@ -0,0 +1,45 @@
+package com.studigma.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Append-only change log of revoked sessions, replayed by every node
+@Entity
+@Table(
+        name = "token_revocations",
+        indexes = {
+            @Index(name = "idx_revocation_expiry", columnList = "expiresAt")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Revoked session id (sid claim)
+    @Column(nullable = false, length = 64)
+    private String revokedId;
+
+    // Last moment an access token carrying this id can still be valid
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public TokenRevocation(String revokedId, LocalDateTime expiresAt) {
+        this.revokedId = revokedId;
+        this.expiresAt = expiresAt;
+    }
+}
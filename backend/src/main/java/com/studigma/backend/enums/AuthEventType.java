@@ -0,0 +1,11 @@
+package com.studigma.backend.enums;
+
+public enum AuthEventType {
+	REGISTER,
+	LOGIN_SUCCESS,
+	LOGIN_FAILURE,
+	GOOGLE_SIGNUP,
+	REFRESH,
+	LOGOUT
+
+}
@@ -1,7 +1,26 @@
 package com.studigma.backend.enums;
 
 public enum AuthProvider {
-	LOCAL,
-	GOOGLE
+	LOCAL('L'),
+	GOOGLE('G');
 
+	// One-character form used in compact access tokens
+	private final char code;
+
+	AuthProvider(char code) {
+		this.code = code;
+	}
+
+	public char getCode() {
+		return code;
+	}
+
+	public static AuthProvider fromCode(char code) {
+		for (AuthProvider provider : values()) {
+			if (provider.code == code) {
+				return provider;
+			}
+		}
+		return null;
+	}
 }
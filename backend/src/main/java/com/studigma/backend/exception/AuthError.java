@@ -0,0 +1,57 @@
+package com.studigma.backend.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import lombok.Getter;
+
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Every auth rejection the API returns. The RFC 7807 body is constant per
+ * error, so it is rendered to bytes once here and reused by the exception
+ * handler and the servlet filters.
+ */
+@Getter
+public enum AuthError {
+
+    INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "Invalid credentials"),
+    USE_GOOGLE_LOGIN(HttpStatus.UNAUTHORIZED, "Please login using Google"),
+    INVALID_GOOGLE_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid Google token"),
+    EMAIL_NOT_VERIFIED(HttpStatus.UNAUTHORIZED, "Email not verified"),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid refresh token"),
+    REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "Refresh token expired"),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "Refresh token reuse detected"),
+    USER_NOT_FOUND(HttpStatus.UNAUTHORIZED, "User not found"),
+
+    EMAIL_ALREADY_REGISTERED(HttpStatus.CONFLICT, "Email already registered"),
+    GOOGLE_SIGNIN_CONFLICT(HttpStatus.CONFLICT, "Google sign-in conflict, please retry"),
+
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, try again later"),
+    TOO_MANY_ACCOUNT_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "Too many attempts for this account, try again later"),
+    HASHING_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "Too many authentication requests, try again shortly");
+
+    private final HttpStatus status;
+    private final String detail;
+
+    // application/problem+json, shared → never modify
+    private final byte[] body;
+
+    AuthError(HttpStatus status, String detail) {
+        this.status = status;
+        this.detail = detail;
+        this.body = render(name(), status, detail);
+    }
+
+    // {"type":"about:blank","title":..,"status":..,"detail":..,"code":..}
+    private static byte[] render(String code, HttpStatus status, String detail) {
+        JsonStringEncoder json = JsonStringEncoder.getInstance();
+        String problem = "{\"type\":\"about:blank\""
+                + ",\"title\":\"" + new String(json.quoteAsString(status.getReasonPhrase())) + "\""
+                + ",\"status\":" + status.value()
+                + ",\"detail\":\"" + new String(json.quoteAsString(detail)) + "\""
+                + ",\"code\":\"" + code + "\"}";
+        return problem.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,7 @@
+package com.studigma.backend.exception;
+
+// Auth exceptions that map 1:1 to a pre-rendered problem response
+public interface AuthProblem {
+
+    AuthError getError();
+}
@@ -0,0 +1,16 @@
+package com.studigma.backend.exception;
+
+// 409, stackless and immutable (no cause, no suppression) → one shared instance
+public final class EmailAlreadyRegisteredException extends RuntimeException implements AuthProblem {
+
+    public static final EmailAlreadyRegisteredException INSTANCE = new EmailAlreadyRegisteredException();
+
+    private EmailAlreadyRegisteredException() {
+        super(AuthError.EMAIL_ALREADY_REGISTERED.getDetail(), null, false, false);
+    }
+
+    @Override
+    public AuthError getError() {
+        return AuthError.EMAIL_ALREADY_REGISTERED;
+    }
+}
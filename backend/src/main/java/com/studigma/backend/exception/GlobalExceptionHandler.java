@@ -1,6 +1,9 @@
 package com.studigma.backend.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,13 +16,34 @@ import java.util.Map;
 public class GlobalExceptionHandler {
 
     // ==============================
-    // 🔐 Bad Credentials (Login/Register)
+    // 🔐 Auth rejections (401 / 409 / 429): pre-rendered RFC 7807 bytes
     // ==============================
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<byte[]> handleInvalidCredentials(InvalidCredentialsException ex) {
+        return problem(ex.getError(), HttpHeaders.EMPTY);
+    }
+
+    @ExceptionHandler(EmailAlreadyRegisteredException.class)
+    public ResponseEntity<byte[]> handleEmailAlreadyRegistered(EmailAlreadyRegisteredException ex) {
+        return problem(ex.getError(), HttpHeaders.EMPTY);
+    }
+
+    @ExceptionHandler(GoogleSignInConflictException.class)
+    public ResponseEntity<byte[]> handleGoogleSignInConflict(GoogleSignInConflictException ex) {
+        return problem(ex.getError(), HttpHeaders.EMPTY);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<byte[]> handleTooManyRequests(TooManyRequestsException ex) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return problem(ex.getError(), headers);
+    }
+
+    // Any other BadCredentialsException (e.g. from Spring Security)
     @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<?> handleBadCredentials(BadCredentialsException ex) {
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(Map.of("message", ex.getMessage()));
+    public ProblemDetail handleBadCredentials(BadCredentialsException ex) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
     // ==============================
@@ -59,4 +83,13 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(Map.of("message", "Something went wrong"));
     }
+
+    // Preset Content-Type → no content negotiation, the bytes go out as they are
+    private static ResponseEntity<byte[]> problem(AuthError error, HttpHeaders headers) {
+        return ResponseEntity
+                .status(error.getStatus())
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(error.getBody());
+    }
 }
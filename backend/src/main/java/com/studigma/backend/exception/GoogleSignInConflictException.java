@@ -0,0 +1,16 @@
+package com.studigma.backend.exception;
+
+// 409: both Google upserts lost a race (retrying the sign-in succeeds); stackless, one shared instance
+public final class GoogleSignInConflictException extends RuntimeException implements AuthProblem {
+
+    public static final GoogleSignInConflictException INSTANCE = new GoogleSignInConflictException();
+
+    private GoogleSignInConflictException() {
+        super(AuthError.GOOGLE_SIGNIN_CONFLICT.getDetail(), null, false, false);
+    }
+
+    @Override
+    public AuthError getError() {
+        return AuthError.GOOGLE_SIGNIN_CONFLICT;
+    }
+}
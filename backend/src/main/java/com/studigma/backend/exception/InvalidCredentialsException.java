@@ -0,0 +1,28 @@
+package com.studigma.backend.exception;
+
+import lombok.Getter;
+
+import org.springframework.security.authentication.BadCredentialsException;
+
+/**
+ * 401 from login / Google / refresh. Still a BadCredentialsException so the
+ * existing catch sites keep working, but without a stack trace: on a
+ * credential-stuffing burst the trace was most of the cost of a rejection.
+ * Allocated per throw: Spring Security's exceptions are mutable (suppressed,
+ * authentication request), so one shared instance isn't safe.
+ */
+@Getter
+public class InvalidCredentialsException extends BadCredentialsException implements AuthProblem {
+
+    private final AuthError error;
+
+    public InvalidCredentialsException(AuthError error) {
+        super(error.getDetail());
+        this.error = error;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
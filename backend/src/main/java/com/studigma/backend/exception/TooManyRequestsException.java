@@ -0,0 +1,17 @@
+package com.studigma.backend.exception;
+
+import lombok.Getter;
+
+// 429, stackless; per throw because Retry-After varies
+@Getter
+public class TooManyRequestsException extends RuntimeException implements AuthProblem {
+
+    private final AuthError error;
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(AuthError error, long retryAfterSeconds) {
+        super(error.getDetail(), null, false, false);
+        this.error = error;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -4,6 +4,11 @@ import com.studigma.backend.dto.RegisterRequest;
 import com.studigma.backend.dto.UserDto;
 import com.studigma.backend.entity.User;
 import com.studigma.backend.enums.AuthProvider;
+import com.studigma.backend.repository.RotatedRefreshToken;
+import com.studigma.backend.util.TokenUtils;
+
+import java.util.Arrays;
+import java.util.Base64;
 
 public class UserMapper {
 
@@ -24,6 +29,25 @@ public class UserMapper {
         );
     }
 
+    // Refresh row → DTO (no entity load)
+    public static UserDto toDto(RotatedRefreshToken row) {
+        return new UserDto(
+                row.getUserId(),
+                row.getEmail(),
+                row.getName(),
+                row.getProfileImageUrl(),
+                AuthProvider.valueOf(row.getProvider())
+        );
+    }
+
+    // Strong ETag over every DTO field → changes whenever the client copy is stale
+    public static String etag(UserDto user) {
+        String fields = user.getId() + "\n" + user.getEmail() + "\n" + user.getName()
+                + "\n" + user.getProfileImageUrl() + "\n" + user.getProvider();
+        byte[] hash = Arrays.copyOf(TokenUtils.sha256(fields), 12);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    }
+
     // RegisterRequest → Entity (LOCAL)
     public static User toLocalUser(RegisterRequest request, String encodedPassword) {
         if (request == null) {
@@ -37,20 +61,4 @@ public class UserMapper {
                 .provider(AuthProvider.LOCAL)
                 .build();
     }
-
-    // Google User Creation
-    public static User toGoogleUser(
-            String email,
-            String name,
-            String googleId,
-            String profileImageUrl
-    ) {
-        return User.builder()
-                .email(email)
-                .name(name)
-                .googleId(googleId)
-                .profileImageUrl(profileImageUrl)
-                .provider(AuthProvider.GOOGLE)
-                .build();
-    }
 }
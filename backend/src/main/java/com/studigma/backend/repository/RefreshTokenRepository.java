@@ -1,16 +1,75 @@
 package com.studigma.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.studigma.backend.entity.RefreshToken;
 import com.studigma.backend.entity.User;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-	
-Optional<RefreshToken> findByToken(String token);
-    
-    void deleteByUser(User user);
-	
 
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    // Rotation: one conditional UPDATE that marks the token used and returns
+    // the row, only if it is still unused and unexpired (no SELECT ... FOR UPDATE)
+    @Query(value = """
+            update refresh_tokens
+               set used_at = :now
+             where token_hash = :tokenHash
+               and used_at is null
+               and expiry_date > :now
+            returning *
+            """, nativeQuery = true)
+    Optional<RefreshToken> consume(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+    // Whole happy-path refresh in one statement: consume the presented token,
+    // insert its successor in the same family, return the user columns.
+    // Empty when the token is unknown, used or expired (caller takes the slow path).
+    // The users join stays for every jwt.token-format: STANDARD tokens carry email
+    // and provider, COMPACT ones still carry provider, and each refresh returns
+    // the user ETag (all UserDto columns) and audits the email. It is one
+    // primary-key lookup in the same round trip.
+    @Query(value = """
+            with consumed as (
+                update refresh_tokens
+                   set used_at = :now
+                 where token_hash = :tokenHash
+                   and used_at is null
+                   and expiry_date > :now
+                returning user_id, family_id
+            ), issued as (
+                insert into refresh_tokens (id, token_hash, user_id, family_id, expiry_date)
+                select nextval('refresh_tokens_seq'), :newTokenHash, user_id, family_id, :newExpiry
+                  from consumed
+            )
+            select c.family_id         as familyId,
+                   u.id                as userId,
+                   u.email             as email,
+                   u.name              as name,
+                   u.profile_image_url as profileImageUrl,
+                   u.provider          as provider
+              from consumed c
+              join users u on u.id = c.user_id
+            """, nativeQuery = true)
+    Optional<RotatedRefreshToken> rotate(
+            @Param("tokenHash") byte[] tokenHash,
+            @Param("now") LocalDateTime now,
+            @Param("newTokenHash") byte[] newTokenHash,
+            @Param("newExpiry") LocalDateTime newExpiry);
+
+    // Single bulk DELETE (derived deleteBy* would SELECT, then delete row by row)
+    @Modifying
+    @Query("delete from RefreshToken r where r.user = :user")
+    int deleteByUser(@Param("user") User user);
+
+    // Revoke one device session (logout / reuse detected)
+    @Modifying
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") UUID familyId);
 }
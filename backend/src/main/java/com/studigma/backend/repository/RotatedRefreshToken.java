@@ -0,0 +1,20 @@
+package com.studigma.backend.repository;
+
+import java.util.UUID;
+
+// Row returned by RefreshTokenRepository.rotate: the family plus the user
+// columns needed for the new access token and the user ETag
+public interface RotatedRefreshToken {
+
+    UUID getFamilyId();
+
+    UUID getUserId();
+
+    String getEmail();
+
+    String getName();
+
+    String getProfileImageUrl();
+
+    String getProvider();
+}
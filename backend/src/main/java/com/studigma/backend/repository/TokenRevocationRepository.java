@@ -0,0 +1,24 @@
+package com.studigma.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.studigma.backend.entity.TokenRevocation;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // Change-log replay: next page of live entries after the last one seen
+    List<TokenRevocation> findTop1000ByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(
+            Long lastSeenId, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TokenRevocation r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,19 +1,121 @@
 package com.studigma.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.studigma.backend.entity.User;
 
+import static com.studigma.backend.config.CacheConfig.USERS_BY_EMAIL;
+import static com.studigma.backend.config.CacheConfig.USERS_BY_GOOGLE_ID;
+import static com.studigma.backend.config.CacheConfig.USERS_BY_ID;
+import static com.studigma.backend.config.CacheConfig.USER_EXISTS_BY_EMAIL;
+
+// Cached users are shared between threads → treat them as read-only and
+// write through save / update queries, which evict every cached view.
+// Only hits are cached: a miss here may be a user registering on another node.
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    @Override
+    @Cacheable(cacheNames = USERS_BY_ID, key = "#p0.toString()", unless = "#result == null")
+    Optional<User> findById(UUID id);
+
+    @Cacheable(cacheNames = USERS_BY_EMAIL, key = "#p0", unless = "#result == null")
 	Optional<User> findByEmail(String email);
 
+    @Cacheable(cacheNames = USER_EXISTS_BY_EMAIL, key = "#p0", unless = "!#result")
     boolean existsByEmail(String email);
     
+    @Cacheable(cacheNames = USERS_BY_GOOGLE_ID, key = "#p0", unless = "#result == null")
     Optional<User> findByGoogleId(String googleId);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = USERS_BY_ID, key = "#result.id.toString()"),
+            @CacheEvict(cacheNames = {USERS_BY_EMAIL, USER_EXISTS_BY_EMAIL}, key = "#p0.email"),
+            @CacheEvict(cacheNames = USERS_BY_GOOGLE_ID, key = "#p0.googleId", condition = "#p0.googleId != null")
+    })
+    <S extends User> S save(S user);
+
+    // Registration: one INSERT with an id chosen up front (save() would either
+    // merge-select an assigned id or need an UPDATE for id-derived columns).
+    // A duplicate email fails right here on the unique constraint.
+    @Modifying
+    @Query(value = """
+            insert into users (id, email, name, password, profile_image_url, provider, created_at)
+            values (:#{#user.id}, :#{#user.email}, :#{#user.name}, :#{#user.password},
+                    :#{#user.profileImageUrl}, :#{#user.provider.name()}, :#{#user.createdAt})
+            """, nativeQuery = true)
+    @CacheEvict(cacheNames = {USERS_BY_EMAIL, USER_EXISTS_BY_EMAIL}, key = "#p0.email")
+    int insertLocalUser(@Param("user") User user);
+
+    // Google first login / re-login in one statement, keyed on google_id with
+    // email as fallback (links an existing account). Profile columns are only
+    // rewritten when Google reports a change, so a plain re-login writes nothing.
+    // Empty when a concurrent first login inserted the same user first → call again.
+    @Query(value = """
+            with existing as (
+                select * from users where google_id = :googleId
+                union all
+                select * from users
+                 where email = :email
+                   and not exists (select 1 from users where google_id = :googleId)
+                limit 1
+            ), changed as (
+                update users u
+                   set google_id         = coalesce(u.google_id, :googleId),
+                       name              = case when u.provider = 'GOOGLE' then :name else u.name end,
+                       profile_image_url = case when u.provider = 'GOOGLE' then :picture else u.profile_image_url end
+                  from existing e
+                 where u.id = e.id
+                   and (u.google_id is null
+                        or (u.provider = 'GOOGLE'
+                            and (u.name is distinct from :name
+                                 or u.profile_image_url is distinct from :picture)))
+                returning u.*
+            ), inserted as (
+                insert into users (id, email, name, google_id, profile_image_url, provider, created_at)
+                select :newId, :email, :name, :googleId, :picture, 'GOOGLE', :now
+                 where not exists (select 1 from existing)
+                on conflict do nothing
+                returning *
+            )
+            select * from changed
+            union all
+            select * from existing where id not in (select id from changed)
+            union all
+            select * from inserted
+            """, nativeQuery = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = USERS_BY_ID, key = "#result.get().id.toString()", condition = "#result.isPresent()"),
+            @CacheEvict(cacheNames = {USERS_BY_EMAIL, USER_EXISTS_BY_EMAIL}, key = "#p1"),
+            @CacheEvict(cacheNames = USERS_BY_GOOGLE_ID, key = "#p2")
+    })
+    Optional<User> upsertGoogleUser(
+            @Param("newId") UUID newId,
+            @Param("email") String email,
+            @Param("googleId") String googleId,
+            @Param("name") String name,
+            @Param("picture") String picture,
+            @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :#{#user.id}")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = USERS_BY_ID, key = "#p0.id.toString()"),
+            @CacheEvict(cacheNames = USERS_BY_EMAIL, key = "#p0.email")
+    })
+    int updatePassword(@Param("user") User user, @Param("password") String password);
 }
@@ -0,0 +1,24 @@
+package com.studigma.backend.service;
+
+import com.studigma.backend.enums.AuthEventType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Append-only trail of auth events. Recording never blocks the request:
+ * events are buffered and written in batches off the request thread.
+ */
+public interface AuthAuditService {
+
+    // userId/email/sessionId may be null (e.g. failed login for an unknown email)
+    record AuthEvent(AuthEventType type, UUID userId, String email, UUID sessionId, Instant occurredAt) {
+    }
+
+    // false → buffer full, event dropped and counted
+    boolean record(AuthEventType type, UUID userId, String email, UUID sessionId);
+
+    long droppedCount();
+
+    long writtenCount();
+}
@@ -0,0 +1,31 @@
+package com.studigma.backend.service;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AvatarService {
+
+    String CONTENT_TYPE = "image/svg+xml";
+
+    // Served by AvatarController; the user id is appended
+    String PATH = "/api/avatars/";
+
+    // profileImageUrl for LOCAL users: a path relative to the API origin
+    // (clients resolve it against the URL they call the API on), so rows
+    // don't depend on the host name a node was configured with
+    String urlFor(UUID userId);
+
+    // Initials avatar for the user, empty when the user doesn't exist
+    // (misses are remembered for app.avatar.miss-ttl).
+    // Close it once the body is written: the bytes may live in a shared cache slot.
+    Optional<Avatar> find(UUID userId);
+
+    record Avatar(String etag, ByteBuffer body, Runnable release) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            release.run();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.studigma.backend.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Channel that carries cache evictions between nodes (near-cache mode).
+ */
+public interface CacheInvalidationBus {
+
+    // Key to evict, or null to clear the whole cache
+    record Invalidation(String nodeId, String cacheName, String key) {
+
+        // Local only, never published: messages may have been missed (e.g. the
+        // channel reconnected) → every cache drops everything
+        public static final Invalidation EVERYTHING = new Invalidation(null, null, null);
+    }
+
+    void publish(Invalidation invalidation);
+
+    void subscribe(Consumer<Invalidation> listener);
+}
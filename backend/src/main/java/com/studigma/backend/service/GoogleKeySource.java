@@ -0,0 +1,18 @@
+package com.studigma.backend.service;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Map;
+
+/**
+ * Supplies the public keys Google signs ID tokens with, indexed by kid.
+ */
+public interface GoogleKeySource {
+
+    Keys load() throws IOException, GeneralSecurityException;
+
+    // Keys by kid, plus how long they may be cached (from Cache-Control)
+    record Keys(Map<String, PublicKey> byKid, long maxAgeSeconds) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.studigma.backend.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+
+public interface GoogleTokenVerifier {
+
+    // Verified token, or null when signature / issuer / audience / expiry fail
+    GoogleIdToken verify(String idToken);
+}
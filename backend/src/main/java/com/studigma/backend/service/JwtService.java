@@ -1,18 +1,37 @@
 package com.studigma.backend.service;
 
+import com.studigma.backend.config.StudigmaPrincipal;
 import com.studigma.backend.entity.User;
 
+import io.jsonwebtoken.Claims;
+
+import java.util.Map;
+import java.util.UUID;
+
 public interface JwtService {
 
-    // Generate Access Token
-    String generateAccessToken(User user);
+    // Access-token claims
+    String USER_ID_CLAIM = "userId";
+    String PROVIDER_CLAIM = "provider";
+
+    // Session (refresh-token family) the access token belongs to
+    String SESSION_CLAIM = "sid";
 
-    // Generate Refresh Token
-    String generateRefreshToken(User user);
+    // Generate Access Token
+    String generateAccessToken(User user, UUID sessionId);
 
     // Validate Token
     boolean isTokenValid(String token);
 
-    // Extract Email (used for authentication)
+    // Extract Email (STANDARD tokens; compact tokens carry no email)
     String extractEmail(String token);
+
+    // Verify signature + expiry in one pass (null when invalid)
+    Claims parseClaims(String token);
+
+    // Verify an access token and build the caller's principal (null when invalid)
+    StudigmaPrincipal verifyAccessToken(String token);
+
+    // Public verification keys as a JWK Set (empty for HS256)
+    Map<String, Object> jwks();
 }
@@ -0,0 +1,19 @@
+package com.studigma.backend.service;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface PasswordHashService {
+
+    // Hash on the dedicated executor (fails fast with 429 when saturated)
+    CompletableFuture<String> encodeAsync(String rawPassword);
+
+    CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword);
+
+    // Blocking helpers for the request thread (no DB connection held)
+    String encode(String rawPassword);
+
+    boolean matches(String rawPassword, String encodedPassword);
+
+    // True when the stored hash uses an outdated cost
+    boolean needsRehash(String encodedPassword);
+}
@@ -0,0 +1,9 @@
+package com.studigma.backend.service;
+
+import com.studigma.backend.config.RateLimitProperties.Limit;
+
+public interface RateLimiter {
+
+    // 0 when the request may proceed, otherwise seconds until it would be allowed
+    long tryAcquire(String scope, String key, Limit limit);
+}
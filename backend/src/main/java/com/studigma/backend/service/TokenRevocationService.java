@@ -0,0 +1,12 @@
+package com.studigma.backend.service;
+
+import java.util.UUID;
+
+public interface TokenRevocationService {
+
+    // Revoke every access token issued for this session (refresh family)
+    void revokeSession(UUID sessionId);
+
+    // O(1), allocation-free check used by JwtAuthFilter
+    boolean isRevoked(String sessionId);
+}
@@ -0,0 +1,34 @@
+package com.studigma.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * Admin bulk onboarding. Both directions stream: imports are read, hashed and
+ * inserted one batch at a time, exports come from a server-side cursor, so
+ * memory stays flat whatever the row count.
+ */
+public interface UserBulkService {
+
+    enum Format { CSV, NDJSON }
+
+    // Running totals after each batch (and at the end)
+    record ImportProgress(long processed, long imported, long failed) {
+    }
+
+    interface ImportListener {
+
+        // line: 1-based line of the input row (CSV: where the record starts)
+        void rowFailed(long line, String email, String reason);
+
+        void progress(ImportProgress progress);
+    }
+
+    // Local accounts from email,name,password rows. Bad or already registered
+    // rows are reported and skipped; they never fail the import
+    ImportProgress importUsers(Reader source, Format format, ImportListener listener) throws IOException;
+
+    // Every user without password hashes; returns the number of rows written
+    long exportUsers(Format format, Writer out) throws IOException;
+}
@@ -1,8 +1,14 @@
 package com.studigma.backend.service;
 
+import com.studigma.backend.config.StudigmaPrincipal;
 import com.studigma.backend.dto.AuthResponse;
 import com.studigma.backend.dto.LoginRequest;
+import com.studigma.backend.dto.RefreshRequest;
+import com.studigma.backend.dto.RefreshResponse;
 import com.studigma.backend.dto.RegisterRequest;
+import com.studigma.backend.dto.UserDto;
+
+import java.util.Set;
 
 public interface UserService {
 
@@ -14,5 +20,12 @@ public interface UserService {
 
     AuthResponse refreshToken(String refreshToken);
 
+    // Lightweight refresh: one DB round trip, user only on request
+    RefreshResponse refresh(RefreshRequest request);
+
+    // Caller's profile, only the requested fields (all when empty).
+    // Answered from the access-token claims unless a field needs the user row.
+    UserDto me(StudigmaPrincipal principal, Set<String> fields);
+
     void logout(String refreshToken);
 }
@@ -0,0 +1,79 @@
+package com.studigma.backend.service.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer / single-consumer ring (Vyukov style).
+ * Each slot carries a sequence number: producers claim a slot with one CAS
+ * on the tail, the consumer reads slots in order and hands them back.
+ */
+final class AuthEventRingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Only touched by the consumer
+    private long head = 0;
+
+    AuthEventRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // Never blocks: false when the ring is full
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);   // publish
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;                             // consumer hasn't freed it yet
+            } else {
+                position = tail.get();                    // another producer won
+            }
+        }
+    }
+
+    // Single consumer only
+    int drainTo(List<? super T> target, int max) {
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;                                    // empty, or still being written
+            }
+            target.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, head + mask + 1);        // free for the next lap
+            head++;
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
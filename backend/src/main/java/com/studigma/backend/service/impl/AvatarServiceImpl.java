@@ -0,0 +1,159 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.AvatarProperties;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.repository.UserRepository;
+import com.studigma.backend.service.AvatarService;
+import com.studigma.backend.util.TokenUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Initials avatars rendered here instead of a third-party URL.
+ *
+ * Output only depends on (initials, colour), so users sharing both share one
+ * cache slot and one ETag. Bodies live in a memory-mapped file and are written
+ * to the response straight from the mapping.
+ */
+@Slf4j
+@Service
+public class AvatarServiceImpl implements AvatarService {
+
+    // Bump when the SVG template changes → new keys, new ETags
+    private static final String VERSION = "v1";
+
+    private static final String[] PALETTE = {
+            "#5C6BC0", "#42A5F5", "#26A69A", "#66BB6A", "#FFA726", "#EF5350",
+            "#AB47BC", "#8D6E63", "#78909C", "#EC407A", "#29B6F6", "#9CCC65"
+    };
+
+    private static final String SVG_TEMPLATE = """
+            <svg xmlns="http://www.w3.org/2000/svg" width="128" height="128" viewBox="0 0 128 128">\
+            <rect width="128" height="128" fill="%s"/>\
+            <text x="50%%" y="50%%" dy=".35em" text-anchor="middle" fill="#FFFFFF" \
+            font-family="Helvetica,Arial,sans-serif" font-size="52" font-weight="600">%s</text>\
+            </svg>""";
+
+    private static final Runnable NOTHING_TO_RELEASE = () -> {};
+
+    private final UserRepository userRepository;
+
+    // Ids with no user behind them, kept for missTtl
+    private final Cache<UUID, Boolean> misses;
+
+    // Null when the cache file can't be opened → render every time
+    private final MappedAvatarCache cache;
+
+    public AvatarServiceImpl(UserRepository userRepository, AvatarProperties properties) {
+        this.userRepository = userRepository;
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(properties.getMissCacheSize())
+                .expireAfterWrite(properties.getMissTtl())
+                .build();
+        this.cache = openCache(properties);
+    }
+
+    @Override
+    public String urlFor(UUID userId) {
+        return PATH + userId;
+    }
+
+    @Override
+    public Optional<Avatar> find(UUID userId) {
+        if (misses.getIfPresent(userId) != null) {
+            return Optional.empty();
+        }
+
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty()) {
+            misses.put(userId, Boolean.TRUE);
+        }
+        return user.map(this::avatar);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    private Avatar avatar(User user) {
+        String initials = initials(user.getName());
+        String color = PALETTE[Math.floorMod(user.getId().hashCode(), PALETTE.length)];
+        String key = VERSION + ":" + initials + ":" + color;
+        String etag = etag(key);
+
+        MappedAvatarCache.Entry entry = null;
+        if (cache != null) {
+            entry = cache.acquire(key);
+            if (entry == null) {
+                entry = cache.put(key, render(initials, color));
+            }
+        }
+        if (entry == null) {
+            return new Avatar(etag, ByteBuffer.wrap(render(initials, color)).asReadOnlyBuffer(), NOTHING_TO_RELEASE);
+        }
+        return new Avatar(etag, entry.body(), entry::close);
+    }
+
+    // First letter of the first and last word, "?" when there is none
+    static String initials(String name) {
+        if (name == null) {
+            return "?";
+        }
+        String[] words = name.trim().split("\\s+");
+        StringBuilder initials = new StringBuilder(2);
+        appendInitial(initials, words[0]);
+        if (words.length > 1) {
+            appendInitial(initials, words[words.length - 1]);
+        }
+        return initials.isEmpty() ? "?" : initials.toString().toUpperCase(Locale.ROOT);
+    }
+
+    private static void appendInitial(StringBuilder initials, String word) {
+        word.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .findFirst()
+                .ifPresent(initials::appendCodePoint);
+    }
+
+    // Initials are letters/digits only → nothing to escape
+    private static byte[] render(String initials, String color) {
+        return SVG_TEMPLATE.formatted(color, initials).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String etag(String key) {
+        byte[] hash = Arrays.copyOf(TokenUtils.sha256(key), 12);
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+    }
+
+    private static MappedAvatarCache openCache(AvatarProperties properties) {
+        try {
+            return new MappedAvatarCache(
+                    Path.of(properties.getCacheFile()),
+                    properties.getCacheSizeBytes(),
+                    properties.getSlotSizeBytes());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Avatar cache {} unavailable, rendering on every request: {}",
+                    properties.getCacheFile(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.AuditProperties;
+import com.studigma.backend.enums.AuthEventType;
+import com.studigma.backend.service.AuthAuditService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Request threads only enqueue into a lock-free ring; one writer thread drains
+ * it with JDBC batch inserts into auth_events, a table range-partitioned by
+ * month. When the DB falls behind the ring fills up and new events are
+ * dropped (and counted) instead of slowing logins down.
+ *
+ * Meters: auth.audit.events{outcome=written|dropped|failed}, auth.audit.pending.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchingAuthAuditService implements AuthAuditService {
+
+    private static final String INSERT_SQL =
+            "insert into auth_events (occurred_at, event_type, user_id, email, session_id) values (?, ?, ?, ?, ?)";
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    // auth_events.email; login emails are unvalidated client input
+    private static final int MAX_EMAIL_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties auditProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private AuthEventRingBuffer<AuthEvent> buffer;
+    private Thread writer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        buffer = new AuthEventRingBuffer<>(auditProperties.getBufferSize());
+
+        events(dropped, "dropped", "Events lost because the buffer was full");
+        events(written, "written", "Events inserted into auth_events");
+        events(failed, "failed", "Events the database rejected");
+        Gauge.builder("auth.audit.pending", buffer, AuthEventRingBuffer::size)
+                .description("Events buffered, not yet written")
+                .register(meterRegistry);
+
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+
+        ensurePartitions();
+
+        running = true;
+        writer = new Thread(this::writeLoop, "auth-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // ==============================
+    // 📝 Record (request thread)
+    // ==============================
+    @Override
+    public boolean record(AuthEventType type, UUID userId, String email, UUID sessionId) {
+        if (!running) {
+            return false;
+        }
+
+        if (email != null && email.length() > MAX_EMAIL_LENGTH) {
+            email = email.substring(0, MAX_EMAIL_LENGTH);
+        }
+
+        if (!buffer.offer(new AuthEvent(type, userId, email, sessionId, Instant.now()))) {
+            dropped.increment();
+            return false;
+        }
+
+        // A full batch is waiting → don't let it sit until the next tick
+        if (buffer.size() >= auditProperties.getBatchSize()) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    @Override
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    public int pendingCount() {
+        return buffer.size();
+    }
+
+    // ==============================
+    // 🧵 Writer thread
+    // ==============================
+    private void writeLoop() {
+        List<AuthEvent> batch = new ArrayList<>(auditProperties.getBatchSize());
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(auditProperties.getFlushIntervalMillis());
+
+        while (running) {
+            if (buffer.drainTo(batch, auditProperties.getBatchSize()) == 0) {
+                LockSupport.parkNanos(this, idleNanos);
+                continue;
+            }
+            write(batch);
+        }
+    }
+
+    // Failed batches are retried with backoff; meanwhile the ring keeps absorbing
+    // (and eventually dropping) new events. A batch that still fails, or that
+    // holds a row the DB rejects, is written row by row → only bad rows are lost
+    private void write(List<AuthEvent> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                insert(batch);
+                written.add(batch.size());
+                batch.clear();
+                return;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Audit batch of {} rejected, writing it row by row: {}", batch.size(), e.getMessage());
+                break;
+            } catch (DataAccessException e) {
+                log.warn("Audit batch of {} failed (attempt {}): {}", batch.size(), attempt, e.getMessage());
+                if (attempt < MAX_ATTEMPTS && running) {
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(500L * attempt));
+                }
+            }
+        }
+        writeRowByRow(batch);
+        batch.clear();
+    }
+
+    private void writeRowByRow(List<AuthEvent> batch) {
+        for (AuthEvent event : batch) {
+            try {
+                insert(List.of(event));
+                written.increment();
+            } catch (DataAccessException e) {
+                failed.increment();
+                log.debug("Audit event {} dropped: {}", event.type(), e.getMessage());
+            }
+        }
+    }
+
+    private void insert(List<AuthEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, event) -> {
+            statement.setTimestamp(1, Timestamp.from(event.occurredAt()));
+            statement.setString(2, event.type().name());
+            statement.setObject(3, event.userId(), Types.OTHER);
+            statement.setString(4, event.email());
+            statement.setObject(5, event.sessionId(), Types.OTHER);
+        });
+    }
+
+    // ==============================
+    // 🛑 Flush on shutdown
+    // ==============================
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(5_000);
+
+        List<AuthEvent> batch = new ArrayList<>(auditProperties.getBatchSize());
+        while (buffer.drainTo(batch, auditProperties.getBatchSize()) > 0) {
+            write(batch);
+        }
+        log.info("Audit writer stopped: written={}, dropped={}, failed={}",
+                written.sum(), dropped.sum(), failed.sum());
+    }
+
+    private void events(LongAdder count, String outcome, String description) {
+        FunctionCounter.builder("auth.audit.events", count, LongAdder::sum)
+                .tag("outcome", outcome)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    // ==============================
+    // 🗂️ Monthly partitions
+    // ==============================
+    @Scheduled(cron = "0 0 3 * * *")
+    public void ensurePartitions() {
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("""
+                    create table if not exists auth_events (
+                        occurred_at timestamptz not null,
+                        event_type  varchar(32) not null,
+                        user_id     uuid,
+                        email       varchar(255),
+                        session_id  uuid
+                    ) partition by range (occurred_at)""");
+            jdbcTemplate.execute(
+                    "create index if not exists idx_auth_events_user on auth_events (user_id, occurred_at)");
+
+            YearMonth month = YearMonth.now();
+            for (int i = 0; i <= auditProperties.getPartitionsAhead(); i++) {
+                createPartition(month.plusMonths(i));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not prepare auth_events partitions: {}", e.getMessage());
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+
+        jdbcTemplate.execute("create table if not exists auth_events_%d_%02d partition of auth_events for values from ('%s') to ('%s')"
+                .formatted(month.getYear(), month.getMonthValue(), from, to));
+    }
+}
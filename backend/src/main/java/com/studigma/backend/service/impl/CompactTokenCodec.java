@@ -0,0 +1,288 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.StudigmaPrincipal;
+import com.studigma.backend.enums.AuthProvider;
+import com.studigma.backend.util.TokenUtils;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact access tokens: a regular JWS whose header we write ourselves
+ * (typ "at+jwt") and whose payload is a fixed, flat claim set:
+ *
+ *   {"sub":"<22-char userId>","p":"L","sid":"<22-char sessionId>","exp":1735689600}
+ *
+ * Because every header is one we emitted, the header segment itself picks
+ * the key (no header JSON parsing), and the payload is scanned directly from
+ * bytes instead of going through Jackson.
+ */
+final class CompactTokenCodec {
+
+    static final String TYPE = "at+jwt";
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    // Encoded header + "." → verification key
+    private record HeaderKey(String prefix, SignatureAlgorithm algorithm, Key key, Mac macPrototype) {
+    }
+
+    private final List<HeaderKey> headers;
+    private final HeaderKey signing;
+
+    private CompactTokenCodec(List<HeaderKey> headers, HeaderKey signing) {
+        this.headers = List.copyOf(headers);
+        this.signing = signing;
+    }
+
+    static CompactTokenCodec from(JwtKeyRing keyRing) {
+        try {
+            List<HeaderKey> headers = new ArrayList<>();
+            HeaderKey signing = null;
+
+            if (keyRing.legacySecret() != null) {
+                headers.add(headerKey(SignatureAlgorithm.HS256, null, keyRing.legacySecret()));
+            }
+            for (Map.Entry<String, Key> entry : keyRing.verificationKeysByKid().entrySet()) {
+                headers.add(headerKey(keyRing.algorithm(), entry.getKey(), entry.getValue()));
+            }
+
+            // Signing header carries the signing key (private for ES256)
+            signing = headerKey(keyRing.algorithm(), keyRing.signingKid(), keyRing.signingKey());
+
+            return new CompactTokenCodec(headers, signing);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not initialise compact token keys", e);
+        }
+    }
+
+    // ==============================
+    // ✍️ Encode
+    // ==============================
+    String encode(UUID userId, AuthProvider provider, UUID sessionId, long expiresAtMillis) {
+        String payload = "{\"sub\":\"" + TokenUtils.encodeUuid(userId)
+                + "\",\"p\":\"" + provider.getCode()
+                + "\",\"sid\":\"" + TokenUtils.encodeUuid(sessionId)
+                + "\",\"exp\":" + expiresAtMillis / 1000 + "}";
+
+        String signingInput = signing.prefix() + BASE64_URL.encodeToString(payload.getBytes(StandardCharsets.US_ASCII));
+        try {
+            return signingInput + "." + BASE64_URL.encodeToString(sign(signingInput));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign access token", e);
+        }
+    }
+
+    // ==============================
+    // 🔍 Decode
+    // ==============================
+    boolean isCompact(String token) {
+        return match(token) != null;
+    }
+
+    // Verified principal, or null (bad signature, expired, malformed)
+    StudigmaPrincipal decode(String token, long nowMillis) {
+        HeaderKey header = match(token);
+        int signatureDot = token.lastIndexOf('.');
+        if (header == null || signatureDot <= header.prefix().length()) {
+            return null;
+        }
+
+        try {
+            byte[] signature = BASE64_URL_DECODER.decode(token.substring(signatureDot + 1));
+            byte[] signingInput = token.substring(0, signatureDot).getBytes(StandardCharsets.US_ASCII);
+            if (!verify(header, signingInput, signature)) {
+                return null;
+            }
+
+            byte[] payload = BASE64_URL_DECODER.decode(token.substring(header.prefix().length(), signatureDot));
+            return parsePayload(payload, nowMillis);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return null;
+        }
+    }
+
+    private HeaderKey match(String token) {
+        for (HeaderKey header : headers) {
+            if (token.startsWith(header.prefix())) {
+                return header;
+            }
+        }
+        return null;
+    }
+
+    // ==============================
+    // 🔐 Signatures
+    // ==============================
+    private byte[] sign(String signingInput) throws GeneralSecurityException {
+        byte[] data = signingInput.getBytes(StandardCharsets.US_ASCII);
+        if (signing.macPrototype() != null) {
+            return mac(signing).doFinal(data);
+        }
+        Signature signer = Signature.getInstance(jcaName(signing.algorithm()));
+        signer.initSign((PrivateKey) signing.key());
+        signer.update(data);
+        return signer.sign();
+    }
+
+    private static boolean verify(HeaderKey header, byte[] data, byte[] signature) throws GeneralSecurityException {
+        if (header.macPrototype() != null) {
+            return MessageDigest.isEqual(mac(header).doFinal(data), signature);
+        }
+        Signature verifier = Signature.getInstance(jcaName(header.algorithm()));
+        verifier.initVerify((PublicKey) header.key());
+        verifier.update(data);
+        return verifier.verify(signature);
+    }
+
+    // Mac isn't thread-safe → clone the keyed prototype per call
+    private static Mac mac(HeaderKey header) throws GeneralSecurityException {
+        try {
+            return (Mac) header.macPrototype().clone();
+        } catch (CloneNotSupportedException e) {
+            Mac mac = Mac.getInstance(header.macPrototype().getAlgorithm());
+            mac.init(header.key());
+            return mac;
+        }
+    }
+
+    // ES256 in JWS form is raw r||s, which P1363 format reads/writes directly
+    private static String jcaName(SignatureAlgorithm algorithm) {
+        return switch (algorithm) {
+            case HS256 -> "HmacSHA256";
+            case ES256 -> "SHA256withECDSAinP1363Format";
+            default -> throw new IllegalArgumentException("Unsupported algorithm " + algorithm);
+        };
+    }
+
+    private static HeaderKey headerKey(SignatureAlgorithm algorithm, String kid, Key key) throws GeneralSecurityException {
+        String json = "{\"alg\":\"" + algorithm.getValue() + "\""
+                + (kid == null ? "" : ",\"kid\":\"" + kid.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                + ",\"typ\":\"" + TYPE + "\"}";
+        String prefix = BASE64_URL.encodeToString(json.getBytes(StandardCharsets.UTF_8)) + ".";
+
+        Mac macPrototype = null;
+        if (algorithm == SignatureAlgorithm.HS256) {
+            macPrototype = Mac.getInstance(jcaName(algorithm));
+            macPrototype.init(key);
+        }
+        return new HeaderKey(prefix, algorithm, key, macPrototype);
+    }
+
+    // ==============================
+    // 🧾 Payload scanner (flat object, string/integer values, no escapes)
+    // ==============================
+    static StudigmaPrincipal parsePayload(byte[] json, long nowMillis) {
+        String sub = null;
+        String provider = null;
+        String sid = null;
+        long exp = -1;
+
+        int i = skipWhitespace(json, 0);
+        if (i >= json.length || json[i] != '{') {
+            return null;
+        }
+        i = skipWhitespace(json, i + 1);
+
+        while (i < json.length && json[i] != '}') {
+            // "key"
+            int keyEnd = stringEnd(json, i);
+            if (keyEnd < 0) {
+                return null;
+            }
+            String key = new String(json, i + 1, keyEnd - i - 1, StandardCharsets.US_ASCII);
+
+            i = skipWhitespace(json, keyEnd + 1);
+            if (i >= json.length || json[i] != ':') {
+                return null;
+            }
+            i = skipWhitespace(json, i + 1);
+
+            // value: "string" or integer
+            if (i < json.length && json[i] == '"') {
+                int valueEnd = stringEnd(json, i);
+                if (valueEnd < 0) {
+                    return null;
+                }
+                String value = new String(json, i + 1, valueEnd - i - 1, StandardCharsets.US_ASCII);
+                switch (key) {
+                    case "sub" -> sub = value;
+                    case "p" -> provider = value;
+                    case "sid" -> sid = value;
+                    default -> { }
+                }
+                i = valueEnd + 1;
+            } else {
+                int start = i;
+                long number = 0;
+                while (i < json.length && json[i] >= '0' && json[i] <= '9' && i - start < 18) {
+                    number = number * 10 + (json[i] - '0');
+                    i++;
+                }
+                if (i == start) {
+                    return null;   // literal, float, nested value → not ours
+                }
+                if (key.equals("exp")) {
+                    exp = number;
+                }
+            }
+
+            i = skipWhitespace(json, i);
+            if (i < json.length && json[i] == ',') {
+                i = skipWhitespace(json, i + 1);
+            } else if (i >= json.length || json[i] != '}') {
+                return null;
+            }
+        }
+
+        if (exp < 0 || exp * 1000 <= nowMillis || provider == null || provider.length() != 1) {
+            return null;
+        }
+
+        UUID userId = TokenUtils.decodeUuid(sub);
+        UUID sessionId = TokenUtils.decodeUuid(sid);
+        AuthProvider authProvider = AuthProvider.fromCode(provider.charAt(0));
+        if (userId == null || sessionId == null || authProvider == null) {
+            return null;
+        }
+
+        return new StudigmaPrincipal(userId, null, authProvider, sessionId.toString(), exp * 1000);
+    }
+
+    // Index of the closing quote for the string opening at i (-1 if none / escaped)
+    private static int stringEnd(byte[] json, int i) {
+        if (i >= json.length || json[i] != '"') {
+            return -1;
+        }
+        for (int j = i + 1; j < json.length; j++) {
+            if (json[j] == '\\') {
+                return -1;
+            }
+            if (json[j] == '"') {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int i) {
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+}
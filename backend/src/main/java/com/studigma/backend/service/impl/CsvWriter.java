@@ -0,0 +1,40 @@
+package com.studigma.backend.service.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 field writer for exports that end up in spreadsheets. Cells that
+ * Excel / Sheets would evaluate as a formula (leading =, +, -, @, tab or CR)
+ * are prefixed with ' and quoted, so a name like =HYPERLINK(...) stays text.
+ */
+final class CsvWriter {
+
+    private CsvWriter() {
+    }
+
+    // Quoted only when needed; nulls are empty fields
+    static void field(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean formula = !value.isEmpty() && isFormulaStart(value.charAt(0));
+        boolean quote = formula
+                || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        if (formula) {
+            out.write('\'');
+        }
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static boolean isFormulaStart(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+}
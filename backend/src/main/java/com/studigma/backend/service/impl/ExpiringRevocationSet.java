@@ -0,0 +1,47 @@
+package com.studigma.backend.service.impl;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Revoked ids with an expiry. Lookups are a single hash probe; ids are also
+ * grouped into one-minute expiry buckets so whole buckets can be dropped once
+ * they pass, which keeps memory bounded by the access-token lifetime.
+ */
+final class ExpiringRevocationSet {
+
+    private static final long BUCKET_MILLIS = 60_000;
+
+    private final ConcurrentHashMap<String, Long> expiries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Queue<String>> buckets = new ConcurrentSkipListMap<>();
+
+    void add(String id, long expiresAtMillis) {
+        expiries.merge(id, expiresAtMillis, Math::max);
+
+        // Bucket k holds ids expiring in ((k - 1) * BUCKET, k * BUCKET]
+        long bucket = Math.floorDiv(expiresAtMillis + BUCKET_MILLIS - 1, BUCKET_MILLIS);
+        buckets.computeIfAbsent(bucket, b -> new ConcurrentLinkedQueue<>()).add(id);
+    }
+
+    boolean contains(String id) {
+        return expiries.containsKey(id);
+    }
+
+    // 🧹 Drop every bucket whose expiry has passed
+    void evictExpired(long nowMillis) {
+        Map<Long, Queue<String>> passed = buckets.headMap(Math.floorDiv(nowMillis, BUCKET_MILLIS), true);
+
+        passed.values().forEach(ids -> ids.forEach(id ->
+                // Keep ids that were re-revoked with a later expiry
+                expiries.computeIfPresent(id, (key, expiresAt) -> expiresAt <= nowMillis ? null : expiresAt)
+        ));
+        passed.clear();
+    }
+
+    int size() {
+        return expiries.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.service.GoogleKeySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+
+// Reads Google's certificate JSON from disk (load tests, offline environments)
+public class FileGoogleKeySource implements GoogleKeySource {
+
+    private final Path file;
+    private final long maxAgeSeconds;
+
+    public FileGoogleKeySource(Path file, long maxAgeSeconds) {
+        this.file = file;
+        this.maxAgeSeconds = maxAgeSeconds;
+    }
+
+    @Override
+    public Keys load() throws IOException, GeneralSecurityException {
+        return new Keys(GoogleCertificates.parse(Files.readAllBytes(file)), maxAgeSeconds);
+    }
+}
@@ -0,0 +1,36 @@
+package com.studigma.backend.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.cert.CertificateFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+// Parses Google's certificate document: { "kid": "-----BEGIN CERTIFICATE-----..." }
+final class GoogleCertificates {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private GoogleCertificates() {}
+
+    static Map<String, PublicKey> parse(byte[] json) throws IOException, GeneralSecurityException {
+
+        Map<String, String> pems = MAPPER.readValue(json, new TypeReference<Map<String, String>>() {});
+        CertificateFactory factory = CertificateFactory.getInstance("X.509");
+
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (Map.Entry<String, String> entry : pems.entrySet()) {
+            byte[] pem = entry.getValue().getBytes(StandardCharsets.US_ASCII);
+            keys.put(entry.getKey(),
+                    factory.generateCertificate(new ByteArrayInputStream(pem)).getPublicKey());
+        }
+
+        return Map.copyOf(keys);
+    }
+}
@@ -0,0 +1,108 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.service.GoogleKeySource;
+import com.studigma.backend.service.GoogleKeySource.Keys;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches keys from a {@link GoogleKeySource} for the advertised max-age, refreshes them
+ * in the background before they expire and keeps serving the last good set
+ * when a fetch fails.
+ */
+@Slf4j
+public class GoogleKeyCache implements AutoCloseable {
+
+    private final GoogleKeySource origin;
+    private final long refreshAheadMillis;
+    private final long retryMillis;
+
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(daemonThreads());
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Keys cached;
+    private ScheduledFuture<?> nextRefresh; // guarded by loadLock
+
+    public GoogleKeyCache(GoogleKeySource origin, long refreshAheadSeconds, long retrySeconds) {
+        this.origin = origin;
+        this.refreshAheadMillis = TimeUnit.SECONDS.toMillis(refreshAheadSeconds);
+        this.retryMillis = TimeUnit.SECONDS.toMillis(retrySeconds);
+    }
+
+    public Keys keys() throws IOException, GeneralSecurityException {
+
+        Keys current = cached;
+        if (current != null) {
+            return current; // Fresh, or stale while a background refresh retries
+        }
+
+        // First use → fetch synchronously, once
+        loadLock.lock();
+        try {
+            if (cached == null) {
+                refresh();
+            }
+            if (cached == null) {
+                throw new IOException("Google signing keys are unavailable");
+            }
+            return cached;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // 🔍 Key for this kid, or null
+    public PublicKey find(String kid) throws IOException, GeneralSecurityException {
+        return kid == null ? null : keys().byKid().get(kid);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    // 🔁 Fetch, swap in the new set and schedule the next refresh
+    private void refresh() {
+        loadLock.lock();
+        try {
+            long delay;
+            try {
+                Keys keys = origin.load();
+                long maxAgeMillis = TimeUnit.SECONDS.toMillis(keys.maxAgeSeconds());
+
+                cached = keys;
+                delay = Math.max(maxAgeMillis - refreshAheadMillis, retryMillis);
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                log.warn("Google key refresh failed, serving cached keys: {}", e.getMessage());
+                delay = retryMillis;
+            }
+
+            if (nextRefresh != null) {
+                nextRefresh.cancel(false);
+            }
+            if (!scheduler.isShutdown()) {
+                nextRefresh = scheduler.schedule(this::refresh, delay, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreads() {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory("google-keys-");
+        factory.setDaemon(true);
+        return factory;
+    }
+}
@@ -0,0 +1,63 @@
+package com.studigma.backend.service.impl;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+
+import com.studigma.backend.service.GoogleTokenVerifier;
+
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.List;
+
+// Long-lived verifier: one JSON factory, keys from the shared key cache
+@Slf4j
+@Service
+public class GoogleTokenVerifierImpl implements GoogleTokenVerifier {
+
+    private static final List<String> ISSUERS =
+            List.of("accounts.google.com", "https://accounts.google.com");
+    private static final long CLOCK_SKEW_SECONDS = 300;
+
+    private final JsonFactory jsonFactory = GsonFactory.getDefaultInstance();
+    private final GoogleKeyCache keySource;
+    private final List<String> audience;
+
+    public GoogleTokenVerifierImpl(
+            GoogleKeyCache keySource,
+            @Value("${google.client.id}") String googleClientId
+    ) {
+        this.keySource = keySource;
+        this.audience = List.of(googleClientId);
+    }
+
+    @Override
+    @Observed(name = "auth.google", lowCardinalityKeyValues = {"operation", "verify"})
+    public GoogleIdToken verify(String idToken) {
+        try {
+            GoogleIdToken token = GoogleIdToken.parse(jsonFactory, idToken);
+
+            // Cheap claim checks before the RSA signature check
+            if (!token.verifyIssuer(ISSUERS)
+                    || !token.verifyAudience(audience)
+                    || !token.verifyTime(System.currentTimeMillis(), CLOCK_SKEW_SECONDS)) {
+                return null;
+            }
+
+            PublicKey key = keySource.find(token.getHeader().getKeyId());
+
+            return key != null && token.verifySignature(key) ? token : null;
+
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            log.debug("Google ID token rejected: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.service.GoogleKeySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Fetches Google's certificates over HTTPS, honouring Cache-Control max-age
+public class HttpGoogleKeySource implements GoogleKeySource {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final long DEFAULT_MAX_AGE_SECONDS = 3600;
+
+    private final HttpClient httpClient;
+    private final URI certsUri;
+
+    public HttpGoogleKeySource(String certsUrl) {
+        this(certsUrl, null);
+    }
+
+    // executor: where the client runs its async work (null = JDK default pool)
+    public HttpGoogleKeySource(String certsUrl, Executor executor) {
+        this.certsUri = URI.create(certsUrl);
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5));
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    public Keys load() throws IOException, GeneralSecurityException {
+
+        HttpRequest request = HttpRequest.newBuilder(certsUri)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching Google certificates", e);
+        }
+
+        if (response.statusCode() != 200) {
+            throw new IOException("Google certificates returned HTTP " + response.statusCode());
+        }
+
+        return new Keys(GoogleCertificates.parse(response.body()), maxAge(response));
+    }
+
+    // max-age minus Age, as GooglePublicKeysManager does
+    private static long maxAge(HttpResponse<?> response) {
+
+        long maxAge = response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(m -> Long.parseLong(m.group(1)))
+                .orElse(DEFAULT_MAX_AGE_SECONDS);
+
+        long age = response.headers().firstValueAsLong("Age").orElse(0);
+
+        return Math.max(0, maxAge - age);
+    }
+}
@@ -0,0 +1,196 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.JwtProperties;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Signing key + every key still accepted for verification, indexed by kid.
+ * Immutable once built; JwtServiceImpl builds it at startup.
+ */
+@Slf4j
+final class JwtKeyRing {
+
+    private final SignatureAlgorithm algorithm;
+    private final String signingKid;        // null → no kid header (HS256)
+    private final Key signingKey;
+    private final Map<String, Key> byKid;   // ES256 public keys
+    private final Key legacySecret;         // HS256 tokens without kid (null → rejected)
+    private final List<Map<String, Object>> jwks;
+
+    private JwtKeyRing(SignatureAlgorithm algorithm, String signingKid, Key signingKey,
+                       Map<String, Key> byKid, Key legacySecret, List<Map<String, Object>> jwks) {
+        this.algorithm = algorithm;
+        this.signingKid = signingKid;
+        this.signingKey = signingKey;
+        this.byKid = Map.copyOf(byKid);
+        this.legacySecret = legacySecret;
+        this.jwks = List.copyOf(jwks);
+    }
+
+    static JwtKeyRing from(JwtProperties properties) {
+        Key secret = properties.getSecret() == null ? null
+                : Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+
+        if (properties.getAlgorithm() == JwtProperties.Algorithm.HS256) {
+            if (secret == null) {
+                throw new IllegalStateException("jwt.secret is required for HS256");
+            }
+            return new JwtKeyRing(SignatureAlgorithm.HS256, null, secret, Map.of(), secret, List.of());
+        }
+
+        Key legacySecret = null;
+        if (properties.isAcceptLegacyHs256()) {
+            if (secret == null) {
+                throw new IllegalStateException("jwt.accept-legacy-hs256 needs jwt.secret");
+            }
+            log.warn("Accepting HS256 tokens without kid (jwt.accept-legacy-hs256), turn off once they have expired");
+            legacySecret = secret;
+        }
+
+        try {
+            return es256(properties, legacySecret);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Could not load the JWT key ring", e);
+        }
+    }
+
+    private static JwtKeyRing es256(JwtProperties properties, Key legacySecret)
+            throws IOException, GeneralSecurityException {
+
+        Map<String, Key> byKid = new HashMap<>();
+        Map<String, PrivateKey> privateKeys = new LinkedHashMap<>();
+        List<Map<String, Object>> jwks = new ArrayList<>();
+
+        List<JwtProperties.SigningKey> configured = properties.getKeys();
+        if (configured.isEmpty()) {
+            log.warn("No jwt.keys configured → ephemeral ES256 key, tokens won't survive a restart");
+            KeyPair pair = generateEs256();
+            String kid = "ephemeral-" + UUID.randomUUID();
+            byKid.put(kid, pair.getPublic());
+            privateKeys.put(kid, pair.getPrivate());
+            jwks.add(jwk(kid, (ECPublicKey) pair.getPublic()));
+        }
+
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        for (JwtProperties.SigningKey key : configured) {
+            PublicKey publicKey = keyFactory.generatePublic(
+                    new X509EncodedKeySpec(pem(key.getPublicKey())));
+            byKid.put(key.getKid(), publicKey);
+            jwks.add(jwk(key.getKid(), (ECPublicKey) publicKey));
+
+            if (key.getPrivateKey() != null) {
+                privateKeys.put(key.getKid(), keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(pem(key.getPrivateKey()))));
+            }
+        }
+
+        String activeKid = properties.getActiveKid();
+        if (activeKid == null) {
+            activeKid = privateKeys.keySet().stream()
+                    .reduce((first, second) -> second)
+                    .orElseThrow(() -> new IllegalStateException("No jwt.keys entry has a private key"));
+        }
+        PrivateKey signingKey = privateKeys.get(activeKid);
+        if (signingKey == null) {
+            throw new IllegalStateException("No private key for jwt.active-kid=" + activeKid);
+        }
+
+        return new JwtKeyRing(SignatureAlgorithm.ES256, activeKid, signingKey, byKid, legacySecret, jwks);
+    }
+
+    SignatureAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    String signingKid() {
+        return signingKid;
+    }
+
+    Key signingKey() {
+        return signingKey;
+    }
+
+    // O(1): kid → key; tokens without kid → HS256 secret (HS256 mode, or
+    // ES256 with jwt.accept-legacy-hs256), otherwise null = rejected
+    Key verificationKey(String kid) {
+        return kid == null ? legacySecret : byKid.get(kid);
+    }
+
+    Map<String, Key> verificationKeysByKid() {
+        return byKid;
+    }
+
+    Key legacySecret() {
+        return legacySecret;
+    }
+
+    // RFC 7517 JWK Set body
+    Map<String, Object> jwks() {
+        return Map.of("keys", jwks);
+    }
+
+    static KeyPair generateEs256() throws GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static Map<String, Object> jwk(String kid, ECPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("kid", kid);
+        jwk.put("x", coordinate(key.getW().getAffineX()));
+        jwk.put("y", coordinate(key.getW().getAffineY()));
+        return jwk;
+    }
+
+    // Unsigned, left-padded to 32 bytes, base64url
+    private static String coordinate(BigInteger value) {
+        byte[] raw = value.toByteArray();
+        byte[] fixed = new byte[32];
+        int length = Math.min(raw.length, 32);
+        System.arraycopy(raw, raw.length - length, fixed, 32 - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    private static byte[] pem(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.US_ASCII)
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(text);
+        }
+    }
+}
@@ -4,17 +4,27 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.config.StudigmaPrincipal;
 import com.studigma.backend.entity.User;
+import com.studigma.backend.enums.AuthProvider;
 import com.studigma.backend.service.JwtService;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.observation.annotation.Observed;
+
+import jakarta.annotation.PostConstruct;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -22,48 +32,58 @@ public class JwtServiceImpl implements JwtService {
 
     private final JwtProperties jwtProperties;
 
-    // 🔐 Signing Key
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
-    }
+    // 🔐 Key ring + Parser (built once, both are thread-safe)
+    private JwtKeyRing keyRing;
+    private JwtParser jwtParser;
+    private CompactTokenCodec compactCodec;
 
-    // ==============================
-    // ✅ ACCESS TOKEN
-    // ==============================
-    @Override
-    public String generateAccessToken(User user) {
-        return buildAccessToken(user);
+    @PostConstruct
+    public void init() {
+        keyRing = JwtKeyRing.from(jwtProperties);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.verificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        compactCodec = CompactTokenCodec.from(keyRing);
     }
 
     // ==============================
-    // ✅ REFRESH TOKEN
+    // ✅ ACCESS TOKEN
     // ==============================
     @Override
-    public String generateRefreshToken(User user) {
-        return buildRefreshToken(user);
+    @Observed(name = "auth.jwt", lowCardinalityKeyValues = {"operation", "sign"})
+    public String generateAccessToken(User user, UUID sessionId) {
+        return buildAccessToken(user, sessionId);
     }
 
     // 🔧 Access Token Builder
-    private String buildAccessToken(User user) {
-        return Jwts.builder()
-                .setSubject(user.getEmail()) // subject = email
-                .claim("userId", user.getId().toString())
-                .claim("provider", user.getProvider().name())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis()
-                        + jwtProperties.getAccessExpiration()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
-    }
+    private String buildAccessToken(User user, UUID sessionId) {
+        long expiresAt = System.currentTimeMillis() + jwtProperties.getAccessExpiration();
 
-    // 🔧 Refresh Token Builder
-    private String buildRefreshToken(User user) {
-        return Jwts.builder()
-                .setSubject(user.getEmail())
+        if (jwtProperties.getTokenFormat() == JwtProperties.TokenFormat.COMPACT) {
+            return compactCodec.encode(user.getId(), user.getProvider(), sessionId, expiresAt);
+        }
+
+        JwtBuilder builder = Jwts.builder();
+        if (keyRing.signingKid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyRing.signingKid());
+        }
+        return builder
+                .setSubject(user.getEmail()) // subject = email
+                .claim(USER_ID_CLAIM, user.getId().toString())
+                .claim(PROVIDER_CLAIM, user.getProvider().name())
+                .claim(SESSION_CLAIM, sessionId.toString()) // for revocation
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis()
-                        + jwtProperties.getRefreshExpiration()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(expiresAt))
+                .signWith(keyRing.signingKey(), keyRing.algorithm())
                 .compact();
     }
 
@@ -72,12 +92,7 @@ public class JwtServiceImpl implements JwtService {
     // ==============================
     @Override
     public boolean isTokenValid(String token) {
-        try {
-            extractAllClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 
     // ==============================
@@ -88,12 +103,64 @@ public class JwtServiceImpl implements JwtService {
         return extractAllClaims(token).getSubject();
     }
 
+    // ==============================
+    // ✅ Parse + Validate (single pass)
+    // ==============================
+    @Override
+    public Claims parseClaims(String token) {
+        try {
+            return extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // ==============================
+    // ✅ Access Token → Principal
+    // ==============================
+    @Override
+    @Observed(name = "auth.jwt", lowCardinalityKeyValues = {"operation", "verify"})
+    public StudigmaPrincipal verifyAccessToken(String token) {
+
+        // Compact format → no jjwt/Jackson on the hot path
+        if (compactCodec.isCompact(token)) {
+            return compactCodec.decode(token, System.currentTimeMillis());
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String provider = claims.get(PROVIDER_CLAIM, String.class);
+        if (userId == null || provider == null) {
+            return null; // Not an access token
+        }
+
+        try {
+            return new StudigmaPrincipal(
+                    UUID.fromString(userId),
+                    claims.getSubject(),
+                    AuthProvider.valueOf(provider),
+                    claims.get(SESSION_CLAIM, String.class),
+                    claims.getExpiration().getTime()
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // ==============================
+    // 🔑 Public keys (JWKS)
+    // ==============================
+    @Override
+    public Map<String, Object> jwks() {
+        return keyRing.jwks();
+    }
+
     // 🔍 Extract Claims
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
@@ -0,0 +1,192 @@
+package com.studigma.backend.service.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of small blobs in one memory-mapped file.
+ *
+ * The file is cut into fixed slots: [magic][key length][body length][key][body].
+ * The key → slot index lives on the heap and is rebuilt from the slot headers
+ * on startup, so cached bodies survive restarts. Readers pin a slot while they
+ * copy it out; eviction only recycles unpinned slots.
+ */
+final class MappedAvatarCache implements Closeable {
+
+    private static final int MAGIC = 0x53415631; // "SAV1"
+    private static final int HEADER_BYTES = Integer.BYTES + 2 * Short.BYTES;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final int slotSize;
+    private final int slotCount;
+
+    // Everything below is guarded by "this"
+    private final Map<String, Integer> index = new LinkedHashMap<>(64, 0.75f, true);
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final int[] pins;
+
+    MappedAvatarCache(Path file, long capacityBytes, int slotSize) throws IOException {
+        if (slotSize <= HEADER_BYTES || slotSize > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Slot size must be between " + (HEADER_BYTES + 1) + " and " + Short.MAX_VALUE);
+        }
+        this.slotSize = slotSize;
+        this.slotCount = (int) Math.max(1, Math.min(capacityBytes / slotSize, Integer.MAX_VALUE / slotSize));
+        this.pins = new int[slotCount];
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        // Slots are written in place → one process per file
+        if (channel.tryLock() == null) {
+            channel.close();
+            throw new IOException(file + " is in use by another process");
+        }
+        this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) slotCount * slotSize);
+
+        rebuildIndex();
+    }
+
+    // Pinned read-only view of the body, null on a miss
+    synchronized Entry acquire(String key) {
+        Integer slot = index.get(key);
+        return slot == null ? null : pin(slot);
+    }
+
+    // Stores the body (or finds a concurrent copy) and pins it.
+    // Null when it doesn't fit a slot or every slot is pinned right now.
+    synchronized Entry put(String key, byte[] body) {
+        Integer existing = index.get(key);
+        if (existing != null) {
+            return pin(existing);
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (HEADER_BYTES + keyBytes.length + body.length > slotSize) {
+            return null;
+        }
+
+        Integer slot = freeSlots.poll();
+        if (slot == null) {
+            slot = evictLeastRecentlyUsed();
+            if (slot == null) {
+                return null;
+            }
+        }
+
+        // Magic goes in last → a torn write is skipped on the next rebuild
+        int offset = slot * slotSize;
+        mapped.putInt(offset, 0);
+        mapped.putShort(offset + Integer.BYTES, (short) keyBytes.length);
+        mapped.putShort(offset + Integer.BYTES + Short.BYTES, (short) body.length);
+        mapped.put(offset + HEADER_BYTES, keyBytes);
+        mapped.put(offset + HEADER_BYTES + keyBytes.length, body);
+        mapped.putInt(offset, MAGIC);
+
+        index.put(key, slot);
+        return pin(slot);
+    }
+
+    synchronized int size() {
+        return index.size();
+    }
+
+    int capacity() {
+        return slotCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapped.force();
+        channel.close();
+    }
+
+    private Entry pin(int slot) {
+        pins[slot]++;
+        int offset = slot * slotSize;
+        int keyLength = mapped.getShort(offset + Integer.BYTES);
+        int bodyLength = mapped.getShort(offset + Integer.BYTES + Short.BYTES);
+        ByteBuffer body = mapped.slice(offset + HEADER_BYTES + keyLength, bodyLength).asReadOnlyBuffer();
+        return new Entry(slot, body);
+    }
+
+    private synchronized void unpin(int slot) {
+        pins[slot]--;
+    }
+
+    private Integer evictLeastRecentlyUsed() {
+        Iterator<Map.Entry<String, Integer>> oldestFirst = index.entrySet().iterator();
+        while (oldestFirst.hasNext()) {
+            int slot = oldestFirst.next().getValue();
+            if (pins[slot] == 0) {
+                oldestFirst.remove();
+                mapped.putInt(slot * slotSize, 0);
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private void rebuildIndex() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            int offset = slot * slotSize;
+            int keyLength = mapped.getShort(offset + Integer.BYTES);
+            int bodyLength = mapped.getShort(offset + Integer.BYTES + Short.BYTES);
+
+            boolean valid = mapped.getInt(offset) == MAGIC
+                    && keyLength > 0 && bodyLength >= 0
+                    && HEADER_BYTES + keyLength + bodyLength <= slotSize;
+            if (!valid) {
+                freeSlots.add(slot);
+                continue;
+            }
+
+            byte[] keyBytes = new byte[keyLength];
+            mapped.get(offset + HEADER_BYTES, keyBytes);
+            if (index.putIfAbsent(new String(keyBytes, StandardCharsets.UTF_8), slot) != null) {
+                freeSlots.add(slot);
+            }
+        }
+    }
+
+    final class Entry implements AutoCloseable {
+
+        private final int slot;
+        private final ByteBuffer body;
+        private boolean closed;
+
+        private Entry(int slot, ByteBuffer body) {
+            this.slot = slot;
+            this.body = body;
+        }
+
+        // Fresh read-only view per call (position 0)
+        ByteBuffer body() {
+            return body.duplicate();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                unpin(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.service.CacheInvalidationBus;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation channel over PostgreSQL LISTEN/NOTIFY. Publishing goes through
+ * the pool; listening uses one dedicated connection outside the pool so it
+ * never takes a slot from request traffic.
+ */
+@Slf4j
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus, AutoCloseable {
+
+    private static final String CHANNEL = "cache_invalidation";
+    private static final char SEPARATOR = '\u001F';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final List<Consumer<Invalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread listenerThread;
+
+    private volatile boolean running = true;
+
+    public PostgresCacheInvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        this.listenerThread.setDaemon(true);
+        this.listenerThread.start();
+    }
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        String payload = invalidation.nodeId() + SEPARATOR + invalidation.cacheName()
+                + SEPARATOR + (invalidation.key() == null ? "" : invalidation.key());
+
+        jdbcTemplate.queryForObject("select pg_notify(?, ?)", Object.class, CHANNEL, payload);
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        listenerThread.interrupt();
+    }
+
+    // 🔁 Blocking receive loop, reconnects after failures and clears the caches
+    // on every (re)connect
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+
+                // NOTIFYs sent while we weren't listening are gone → drop what
+                // they might have invalidated (also covers puts before the first LISTEN)
+                listeners.forEach(listener -> listener.accept(Invalidation.EVERYTHING));
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(5_000);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener disconnected, retrying: {}", e.getMessage());
+                    sleepQuietly();
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        int first = payload.indexOf(SEPARATOR);
+        int second = payload.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            return;
+        }
+
+        String key = payload.substring(second + 1);
+        Invalidation invalidation = new Invalidation(
+                payload.substring(0, first),
+                payload.substring(first + 1, second),
+                key.isEmpty() ? null : key);
+
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.TokenPurgeProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes expired refresh tokens nobody will ever present again.
+ *
+ * One node at a time (session advisory lock), small auto-committed chunks
+ * walking idx_refresh_expiry, SKIP LOCKED so a row being rotated right now is
+ * simply left for the next run. A slow chunk ends the run early.
+ *
+ * Runs on its own thread, not the shared @Scheduled one: a long run with its
+ * pauses would otherwise hold up revocation replay and the cache evictions.
+ */
+@Slf4j
+@Component
+public class RefreshTokenReaper {
+
+    // Arbitrary app-wide key for pg_try_advisory_lock
+    private static final long ADVISORY_LOCK_KEY = 0x5354_5544_5055_5247L;
+
+    private static final String PURGE_CHUNK_SQL = """
+            delete from refresh_tokens
+             where id in (
+                   select id
+                     from refresh_tokens
+                    where expiry_date < ?
+                    order by expiry_date
+                    limit ?
+                      for update skip locked)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TokenPurgeProperties properties;
+
+    private final Counter purged;
+    private final Timer runTimer;
+
+    private ScheduledExecutorService scheduler;
+
+    public RefreshTokenReaper(JdbcTemplate jdbcTemplate, TokenPurgeProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.purged = Counter.builder("auth.refresh_tokens.purged")
+                .description("Expired refresh tokens deleted by the reaper")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("auth.refresh_tokens.purge")
+                .description("Time spent per reaper run")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        CustomizableThreadFactory threads = new CustomizableThreadFactory("refresh-token-reaper-");
+        threads.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threads);
+        scheduler.scheduleWithFixedDelay(this::purgeExpired,
+                60_000, properties.getIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();   // interrupts pause() → the run ends after its current chunk
+        }
+    }
+
+    public void purgeExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            Long deleted = runTimer.recordCallable(() -> jdbcTemplate.execute(this::purgeWithLock));
+            if (deleted != null && deleted > 0) {
+                log.info("Purged {} expired refresh tokens", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Refresh token purge failed: {}", e.getMessage());
+        } catch (Exception e) {
+            log.warn("Refresh token purge failed", e);
+        }
+    }
+
+    // Same connection for lock, chunks and unlock (advisory locks are per session)
+    private Long purgeWithLock(Connection connection) throws SQLException {
+        if (!advisoryLock(connection, "select pg_try_advisory_lock(?)")) {
+            return 0L;   // another node is on it
+        }
+        try {
+            return purgeChunks(connection);
+        } finally {
+            advisoryLock(connection, "select pg_advisory_unlock(?)");
+        }
+    }
+
+    private long purgeChunks(Connection connection) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long total = 0;
+
+        try (PreparedStatement delete = connection.prepareStatement(PURGE_CHUNK_SQL)) {
+            for (int chunk = 0; chunk < properties.getMaxChunks(); chunk++) {
+                long started = System.nanoTime();
+
+                delete.setTimestamp(1, now);
+                delete.setInt(2, properties.getChunkSize());
+                int deleted = delete.executeUpdate();   // auto-commit → one short tx per chunk
+
+                total += deleted;
+                purged.increment(deleted);
+
+                if (deleted < properties.getChunkSize()) {
+                    break;   // caught up
+                }
+
+                long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+                if (elapsedMillis > properties.getMaxChunkMillis()) {
+                    log.info("Refresh token purge backing off: chunk took {}ms", elapsedMillis);
+                    break;
+                }
+
+                if (!pause()) {
+                    break;
+                }
+            }
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+}
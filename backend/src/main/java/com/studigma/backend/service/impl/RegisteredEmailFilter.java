@@ -0,0 +1,107 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.EmailFilterProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory Bloom filter of registered emails, warmed from the users table
+ * once the app is up. Only a "definitely new" answer is trusted: it lets
+ * registration skip the existence query. The unique constraint stays the
+ * source of truth (other nodes, missed inserts), so a stale filter costs a
+ * wasted hash, never a duplicate account.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailFilterProperties properties;
+
+    private final BloomFilter filter;
+    private final Counter skippedLookups;
+
+    // Until warm every email is a "maybe"
+    private volatile boolean ready = false;
+
+    public RegisteredEmailFilter(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 EmailFilterProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.filter = properties.isEnabled()
+                ? new BloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate())
+                : null;
+
+        this.skippedLookups = Counter.builder("auth.email_filter.skipped_lookups")
+                .description("Registrations that skipped the email existence query")
+                .register(meterRegistry);
+        if (filter != null) {
+            Gauge.builder("auth.email_filter.memory", filter, BloomFilter::sizeInBytes)
+                    .description("Bloom filter bit array size")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("auth.email_filter.insertions", filter, BloomFilter::insertions)
+                    .description("Emails added to the filter since startup")
+                    .register(meterRegistry);
+        }
+    }
+
+    // false → the email was never registered, no need to ask the DB
+    public boolean mightBeRegistered(String email) {
+        if (filter == null || !ready || filter.mightContain(email)) {
+            return true;
+        }
+        skippedLookups.increment();
+        return false;
+    }
+
+    public void add(String email) {
+        if (filter != null) {
+            filter.put(email);
+        }
+    }
+
+    // ==== 🔥 Warm-up: one streamed scan of users.email ====
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (filter == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        LongAdder rows = new LongAdder();
+        try {
+            // PostgreSQL only streams with a fetch size inside a transaction
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement("select email from users");
+                statement.setFetchSize(properties.getWarmupFetchSize());
+                return statement;
+            }, rs -> {
+                filter.put(rs.getString(1));
+                rows.increment();
+            }));
+        } catch (DataAccessException e) {
+            log.warn("Registered email filter not warmed, every registration checks the DB: {}", e.getMessage());
+            return;
+        }
+        ready = true;
+        log.info("Registered email filter warmed with {} emails in {} ms ({} KB, {} hashes)",
+                rows.sum(), (System.nanoTime() - started) / 1_000_000,
+                filter.sizeInBytes() / 1024, filter.hashCount());
+    }
+}
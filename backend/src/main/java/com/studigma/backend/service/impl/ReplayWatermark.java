@@ -0,0 +1,39 @@
+package com.studigma.backend.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Where the next change-log poll should start.
+ *
+ * IDENTITY ids are handed out at insert, not at commit, so a lower id can
+ * become visible after a higher one was already replayed. Instead of the
+ * highest id seen, polls start from the highest id that was already seen
+ * {@code overlapMillis} ago: every poll re-scans that trailing range, and a
+ * transaction that commits within the overlap is still picked up.
+ */
+final class ReplayWatermark {
+
+    private final long overlapMillis;
+
+    // (poll time, highest id seen by then), oldest first
+    private final Deque<long[]> polls = new ArrayDeque<>();
+    private long scanFrom = 0;
+
+    ReplayWatermark(long overlapMillis) {
+        this.overlapMillis = overlapMillis;
+    }
+
+    // Ids greater than this may not have been replayed yet
+    long scanFrom(long nowMillis) {
+        long horizon = nowMillis - overlapMillis;
+        while (!polls.isEmpty() && polls.peekFirst()[0] <= horizon) {
+            scanFrom = Math.max(scanFrom, polls.pollFirst()[1]);
+        }
+        return scanFrom;
+    }
+
+    void record(long nowMillis, long highestSeenId) {
+        polls.addLast(new long[]{nowMillis, highestSeenId});
+    }
+}
@@ -0,0 +1,31 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.service.GoogleKeySource;
+
+import java.security.PublicKey;
+import java.util.Map;
+
+/**
+ * In-process stub for integration tests: serves a fixed key set, so tests can
+ * sign their own ID tokens and exercise Google login with no network.
+ * Register it as a {@code @Primary} GoogleKeySource bean.
+ */
+public class StaticGoogleKeySource implements GoogleKeySource {
+
+    private static final long ONE_YEAR_SECONDS = 365L * 24 * 3600;
+
+    private final Keys keys;
+
+    public StaticGoogleKeySource(Map<String, PublicKey> keysByKid) {
+        this.keys = new Keys(Map.copyOf(keysByKid), ONE_YEAR_SECONDS);
+    }
+
+    public static StaticGoogleKeySource of(String kid, PublicKey key) {
+        return new StaticGoogleKeySource(Map.of(kid, key));
+    }
+
+    @Override
+    public Keys load() {
+        return keys;
+    }
+}
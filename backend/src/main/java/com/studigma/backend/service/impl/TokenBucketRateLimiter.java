@@ -0,0 +1,90 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.RateLimitProperties;
+import com.studigma.backend.config.RateLimitProperties.Limit;
+import com.studigma.backend.service.RateLimiter;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets, striped across independent maps by key hash.
+ *
+ * Each bucket is a single AtomicLong holding its "theoretical arrival time"
+ * (GCRA): a request is allowed when that time is no more than one burst ahead
+ * of now, and pushes it forward by one refill interval. A bucket whose
+ * arrival time is in the past is full, so idle buckets can be dropped
+ * without losing anything.
+ */
+@Service
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private static final int STRIPES = 16;
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentHashMap<BucketKey, AtomicLong>[] stripes = new ConcurrentHashMap[STRIPES];
+    private final long idleEvictNanos;
+
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.idleEvictNanos = TimeUnit.SECONDS.toNanos(properties.getIdleEvictSeconds());
+    }
+
+    @Override
+    public long tryAcquire(String scope, String key, Limit limit) {
+
+        long interval = TimeUnit.MINUTES.toNanos(1) / Math.max(1, limit.getRefillPerMinute());
+        long burst = interval * Math.max(0, limit.getCapacity() - 1);
+
+        BucketKey bucketKey = new BucketKey(scope, key);
+        AtomicLong bucket = stripes[stripeOf(bucketKey)]
+                .computeIfAbsent(bucketKey, k -> new AtomicLong(System.nanoTime())); // starts full
+
+        while (true) {
+            long now = System.nanoTime();
+            long arrival = bucket.get();
+            long start = Math.max(arrival, now);
+
+            long wait = start - now - burst;
+            if (wait > 0) {
+                // Retry-After in whole seconds, rounded up
+                return (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+            }
+
+            if (bucket.compareAndSet(arrival, start + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    // 🧹 Drop buckets that have refilled completely and sat idle
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - idleEvictNanos;
+        for (ConcurrentHashMap<BucketKey, AtomicLong> stripe : stripes) {
+            stripe.values().removeIf(bucket -> bucket.get() < cutoff);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<BucketKey, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static int stripeOf(BucketKey key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (STRIPES - 1);
+    }
+
+    private record BucketKey(String scope, String key) {
+    }
+}
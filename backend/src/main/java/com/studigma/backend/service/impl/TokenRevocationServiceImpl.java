@@ -0,0 +1,126 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.entity.TokenRevocation;
+import com.studigma.backend.repository.TokenRevocationRepository;
+import com.studigma.backend.service.TokenRevocationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps revoked sessions in memory so JwtAuthFilter never hits the DB.
+ * The token_revocations table is the change log: every node appends its own
+ * revocations and replays everyone else's by polling for new ids, re-scanning
+ * a trailing range for late commits (ReplayWatermark).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final JwtProperties jwtProperties;
+
+    private final ExpiringRevocationSet revoked = new ExpiringRevocationSet();
+
+    // Only touched by the scheduler thread
+    private ReplayWatermark watermark;
+    private long highestSeenId = 0;
+
+    // ==============================
+    // 🚫 Revoke
+    // ==============================
+    @Override
+    public void revokeSession(UUID sessionId) {
+
+        // Access tokens for this session can't outlive now + access lifetime
+        LocalDateTime expiresAt = LocalDateTime.now()
+                .plus(Duration.ofMillis(jwtProperties.getAccessExpiration()));
+
+        tokenRevocationRepository.save(new TokenRevocation(sessionId.toString(), expiresAt));
+
+        // Effective on this node once the row commits, on others after the next replay
+        addAfterCommit(sessionId.toString(), toMillis(expiresAt));
+    }
+
+    @Override
+    public boolean isRevoked(String sessionId) {
+        return sessionId != null && revoked.contains(sessionId);
+    }
+
+    // ==============================
+    // 🔁 Replay change log
+    // ==============================
+    @Scheduled(fixedDelayString = "${jwt.revocation-poll-millis:2000}")
+    public void replay() {
+        if (watermark == null) {
+            watermark = new ReplayWatermark(jwtProperties.getRevocationReplayOverlapMillis());
+        }
+        long now = System.currentTimeMillis();
+        try {
+            // Re-adding an id already replayed is a no-op
+            long cursor = watermark.scanFrom(now);
+            List<TokenRevocation> page;
+            do {
+                page = tokenRevocationRepository
+                        .findTop1000ByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(cursor, LocalDateTime.now());
+
+                for (TokenRevocation revocation : page) {
+                    revoked.add(revocation.getRevokedId(), toMillis(revocation.getExpiresAt()));
+                    cursor = revocation.getId();
+                    highestSeenId = Math.max(highestSeenId, cursor);
+                }
+            } while (page.size() == 1000);
+            watermark.record(now, highestSeenId);
+        } catch (DataAccessException e) {
+            log.warn("Revocation replay failed, retrying: {}", e.getMessage());
+        }
+    }
+
+    // 🧹 Expired sessions can't authenticate anyway → forget them
+    @Scheduled(fixedDelay = 30_000)
+    public void evictExpired() {
+        revoked.evictExpired(System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeLog() {
+        try {
+            tokenRevocationRepository.deleteExpired(LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("Revocation log purge failed: {}", e.getMessage());
+        }
+    }
+
+    // A rolled-back revocation must not keep rejecting a live session
+    private void addAfterCommit(String sessionId, long expiresAtMillis) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revoked.add(sessionId, expiresAtMillis);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoked.add(sessionId, expiresAtMillis);
+            }
+        });
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,545 @@
+package com.studigma.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.studigma.backend.config.UserBulkProperties;
+import com.studigma.backend.dto.RegisterRequest;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.enums.AuthEventType;
+import com.studigma.backend.mapper.UserMapper;
+import com.studigma.backend.service.AuthAuditService;
+import com.studigma.backend.service.AvatarService;
+import com.studigma.backend.service.UserBulkService;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import static com.studigma.backend.config.CacheConfig.USERS_BY_EMAIL;
+import static com.studigma.backend.config.CacheConfig.USER_EXISTS_BY_EMAIL;
+
+/**
+ * Bulk import: parse a batch → drop rows that are invalid or already
+ * registered → BCrypt the rest in parallel on a bounded fork-join pool →
+ * one INSERT for the whole batch. Only one batch is in memory at a time.
+ *
+ * The insert reads the batch from arrays (unnest) with ON CONFLICT DO NOTHING
+ * RETURNING, so a single round trip still tells which rows lost to an
+ * existing email.
+ */
+@Slf4j
+@Service
+public class UserBulkServiceImpl implements UserBulkService {
+
+    private static final String INSERT_SQL = """
+            insert into users (id, email, name, password, profile_image_url, provider, created_at)
+            select u.id, u.email, u.name, u.password, u.profile_image_url, 'LOCAL', ?
+              from unnest(?::uuid[], ?::text[], ?::text[], ?::text[], ?::text[])
+                   as u(id, email, name, password, profile_image_url)
+            on conflict do nothing
+            returning email
+            """;
+
+    private static final String EXISTING_SQL = "select email from users where email = any(?)";
+
+    private static final String EXPORT_SQL =
+            "select id, email, name, provider, google_id, profile_image_url, created_at from users";
+
+    private static final String[] EXPORT_COLUMNS =
+            {"id", "email", "name", "provider", "google_id", "profile_image_url", "created_at"};
+
+    // NDJSON field names, same as UserDto
+    private static final String[] EXPORT_FIELDS =
+            {"id", "email", "name", "provider", "googleId", "profileImageUrl", "createdAt"};
+
+    // users table limits (User entity) and BCrypt's input limit
+    private static final int MAX_EMAIL_LENGTH = 150;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final int MAX_PASSWORD_BYTES = 72;
+
+    private static final String ALREADY_REGISTERED = "Email already registered";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final AvatarService avatarService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final AuthAuditService authAuditService;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final UserBulkProperties properties;
+
+    // Separate from the login hashing executor → imports can't starve logins
+    private final ForkJoinPool hashPool;
+
+    public UserBulkServiceImpl(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               PasswordEncoder passwordEncoder,
+                               Validator validator,
+                               AvatarService avatarService,
+                               RegisteredEmailFilter registeredEmailFilter,
+                               AuthAuditService authAuditService,
+                               CacheManager cacheManager,
+                               ObjectMapper objectMapper,
+                               UserBulkProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.avatarService = avatarService;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.authAuditService = authAuditService;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        int parallelism = properties.getHashParallelism() > 0
+                ? properties.getHashParallelism()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashPool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    // ==================================
+    // 📥 IMPORT
+    // ==================================
+    @Override
+    public ImportProgress importUsers(Reader source, Format format, ImportListener listener) throws IOException {
+
+        long started = System.nanoTime();
+        RowSource rows = format == Format.CSV ? csvRows(source) : ndjsonRows(source);
+        ImportRun run = new ImportRun(listener);
+
+        for (Row row = rows.next(); row != null; row = rows.next()) {
+            run.add(row);
+            if (run.pending.size() >= properties.getBatchSize()) {
+                run.flush();
+                listener.progress(run.progress());
+            }
+        }
+        // Last partial batch; the caller reports the returned totals
+        run.flush();
+
+        ImportProgress result = run.progress();
+        log.info("Imported {} of {} users ({} failed) in {} ms",
+                result.imported(), result.processed(), result.failed(),
+                (System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private record Row(long line, String email, String name, String password, String error) {
+
+        static Row failed(long line, String error) {
+            return new Row(line, null, null, null, error);
+        }
+    }
+
+    private record Pending(long line, RegisterRequest request) {
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+
+        // Null at the end of the input
+        Row next() throws IOException;
+    }
+
+    // State of one import: the batch being filled and the running totals
+    private final class ImportRun {
+
+        private final ImportListener listener;
+        private final List<Pending> pending = new ArrayList<>();
+        private final Set<String> pendingEmails = new HashSet<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private ImportRun(ImportListener listener) {
+            this.listener = listener;
+        }
+
+        void add(Row row) {
+            processed++;
+            if (row.error() != null) {
+                fail(row.line(), row.email(), row.error());
+                return;
+            }
+
+            RegisterRequest request = new RegisterRequest();
+            request.setEmail(trim(row.email()));
+            request.setName(trim(row.name()));
+            request.setPassword(row.password());
+
+            String invalid = validate(request);
+            if (invalid != null) {
+                fail(row.line(), request.getEmail(), invalid);
+            } else if (!pendingEmails.add(request.getEmail())) {
+                fail(row.line(), request.getEmail(), "Duplicate email in this import");
+            } else {
+                pending.add(new Pending(row.line(), request));
+            }
+        }
+
+        void flush() {
+            if (!pending.isEmpty()) {
+                List<Pending> fresh = dropRegistered(pending);
+                List<User> hashed = hash(fresh);
+                insert(hashed, fresh);
+                pending.clear();
+                pendingEmails.clear();
+            }
+        }
+
+        ImportProgress progress() {
+            return new ImportProgress(processed, imported, failed);
+        }
+
+        private void fail(long line, String email, String reason) {
+            failed++;
+            listener.rowFailed(line, email, reason);
+        }
+
+        // Filter says "new" → no query; the maybes are checked in one round trip,
+        // so re-running an import doesn't pay BCrypt for rows already in
+        private List<Pending> dropRegistered(List<Pending> batch) {
+            String[] maybe = batch.stream()
+                    .map(p -> p.request().getEmail())
+                    .filter(registeredEmailFilter::mightBeRegistered)
+                    .toArray(String[]::new);
+            if (maybe.length == 0) {
+                return batch;
+            }
+
+            Set<String> existing = new HashSet<>();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXISTING_SQL);
+                statement.setArray(1, connection.createArrayOf("text", maybe));
+                return statement;
+            }, (RowCallbackHandler) rs -> existing.add(rs.getString(1)));
+
+            List<Pending> fresh = new ArrayList<>(batch.size());
+            for (Pending p : batch) {
+                if (existing.contains(p.request().getEmail())) {
+                    fail(p.line(), p.request().getEmail(), ALREADY_REGISTERED);
+                } else {
+                    fresh.add(p);
+                }
+            }
+            return fresh;
+        }
+
+        // One BCrypt task per row, at most "parallelism" running at once.
+        // Returns users in the same order as fresh, null where hashing failed
+        private List<User> hash(List<Pending> fresh) {
+            List<ForkJoinTask<String>> tasks = new ArrayList<>(fresh.size());
+            for (Pending p : fresh) {
+                String password = p.request().getPassword();
+                tasks.add(hashPool.submit(() -> passwordEncoder.encode(password)));
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<User> users = new ArrayList<>(fresh.size());
+            for (int i = 0; i < fresh.size(); i++) {
+                Pending p = fresh.get(i);
+                try {
+                    User user = UserMapper.toLocalUser(p.request(), tasks.get(i).join());
+                    user.setId(UUID.randomUUID());
+                    user.setCreatedAt(now);
+                    user.setProfileImageUrl(avatarService.urlFor(user.getId()));
+                    users.add(user);
+                } catch (RuntimeException e) {
+                    fail(p.line(), p.request().getEmail(), "Password could not be hashed");
+                    users.add(null);
+                }
+            }
+            return users;
+        }
+
+        private void insert(List<User> hashed, List<Pending> fresh) {
+            List<User> users = hashed.stream().filter(Objects::nonNull).toList();
+            if (users.isEmpty()) {
+                return;
+            }
+
+            Set<String> inserted = new HashSet<>();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_SQL);
+                statement.setTimestamp(1, Timestamp.valueOf(users.get(0).getCreatedAt()));
+                statement.setArray(2, connection.createArrayOf("uuid", users.stream().map(User::getId).toArray()));
+                statement.setArray(3, connection.createArrayOf("text", users.stream().map(User::getEmail).toArray()));
+                statement.setArray(4, connection.createArrayOf("text", users.stream().map(User::getName).toArray()));
+                statement.setArray(5, connection.createArrayOf("text", users.stream().map(User::getPassword).toArray()));
+                statement.setArray(6, connection.createArrayOf("text", users.stream().map(User::getProfileImageUrl).toArray()));
+                return statement;
+            }, (RowCallbackHandler) rs -> inserted.add(rs.getString(1)));
+
+            Cache byEmail = cacheManager.getCache(USERS_BY_EMAIL);
+            Cache existsByEmail = cacheManager.getCache(USER_EXISTS_BY_EMAIL);
+
+            for (int i = 0; i < hashed.size(); i++) {
+                User user = hashed.get(i);
+                if (user == null) {
+                    continue;
+                }
+                if (!inserted.contains(user.getEmail())) {
+                    // Registered concurrently since dropRegistered
+                    fail(fresh.get(i).line(), user.getEmail(), ALREADY_REGISTERED);
+                    continue;
+                }
+
+                imported++;
+                registeredEmailFilter.add(user.getEmail());
+                // A cached "no such user" would hide the new account
+                if (byEmail != null) {
+                    byEmail.evict(user.getEmail());
+                }
+                if (existsByEmail != null) {
+                    existsByEmail.evict(user.getEmail());
+                }
+                authAuditService.record(AuthEventType.REGISTER, user.getId(), user.getEmail(), null);
+            }
+        }
+    }
+
+    // Same rules as /register, plus the column and BCrypt limits it relies on the DB for
+    private String validate(RegisterRequest request) {
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (request.getEmail().length() > MAX_EMAIL_LENGTH) {
+            return "Email must be at most " + MAX_EMAIL_LENGTH + " characters";
+        }
+        if (request.getName().length() > MAX_NAME_LENGTH) {
+            return "Name must be at most " + MAX_NAME_LENGTH + " characters";
+        }
+        if (request.getPassword().getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            return "Password must be at most " + MAX_PASSWORD_BYTES + " bytes";
+        }
+        return null;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    // CSV with a header row naming email, name and password (any order, extra columns ignored)
+    private static RowSource csvRows(Reader source) throws IOException {
+        CsvReader csv = new CsvReader(source);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+
+        int email = column(header, "email");
+        int name = column(header, "name");
+        int password = column(header, "password");
+        if (email < 0 || name < 0 || password < 0) {
+            throw new IllegalArgumentException("CSV header must name the email, name and password columns");
+        }
+        int width = header.size();
+
+        return () -> {
+            List<String> fields;
+            try {
+                fields = csv.next();
+            } catch (IllegalArgumentException e) {
+                return Row.failed(csv.line(), e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() != width) {
+                return Row.failed(csv.line(), "Expected " + width + " columns, found " + fields.size());
+            }
+            return new Row(csv.line(), fields.get(email), fields.get(name), fields.get(password), null);
+        };
+    }
+
+    private static int column(List<String> header, String name) {
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            // Spreadsheet exports often start with a UTF-8 BOM
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1);
+            }
+            if (column.equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // One JSON object per line: {"email":..,"name":..,"password":..}
+    private RowSource ndjsonRows(Reader source) {
+        BufferedReader lines = new BufferedReader(source);
+        long[] lineNumber = {0};
+
+        return () -> {
+            String line;
+            do {
+                line = lines.readLine();
+                lineNumber[0]++;
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                return Row.failed(lineNumber[0], "Invalid JSON");
+            }
+            if (!node.isObject()) {
+                return Row.failed(lineNumber[0], "Expected a JSON object");
+            }
+            return new Row(lineNumber[0], text(node, "email"), text(node, "name"), text(node, "password"), null);
+        };
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value != null && value.isTextual() ? value.asText() : null;
+    }
+
+    // ==================================
+    // 📤 EXPORT
+    // ==================================
+    @Override
+    public long exportUsers(Format format, Writer out) throws IOException {
+
+        long started = System.nanoTime();
+        RowWriter rowWriter = format == Format.CSV ? csvWriter(out) : ndjsonWriter(out);
+        long[] rows = {0};
+
+        try {
+            // PostgreSQL only streams with a fetch size inside a transaction
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(EXPORT_SQL);
+                statement.setFetchSize(properties.getExportFetchSize());
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }));
+        } catch (UncheckedIOException e) {
+            // Client went away mid-download
+            throw e.getCause();
+        }
+        rowWriter.finish();
+
+        log.info("Exported {} users in {} ms", rows[0], (System.nanoTime() - started) / 1_000_000);
+        return rows[0];
+    }
+
+    private interface RowWriter {
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static RowWriter csvWriter(Writer out) throws IOException {
+        out.write(String.join(",", EXPORT_COLUMNS));
+        out.write("\r\n");
+
+        return new RowWriter() {
+            @Override
+            public void write(ResultSet rs) throws SQLException, IOException {
+                for (int i = 0; i < EXPORT_COLUMNS.length; i++) {
+                    if (i > 0) {
+                        out.write(',');
+                    }
+                    CsvWriter.field(out, exportValue(rs, i + 1));
+                }
+                out.write("\r\n");
+            }
+
+            @Override
+            public void finish() throws IOException {
+                out.flush();
+            }
+        };
+    }
+
+    // Written field by field → no per-row maps or DTOs
+    private RowWriter ndjsonWriter(Writer out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.setRootValueSeparator(null);
+
+        return new RowWriter() {
+            @Override
+            public void write(ResultSet rs) throws SQLException, IOException {
+                json.writeStartObject();
+                for (int i = 0; i < EXPORT_COLUMNS.length; i++) {
+                    String value = exportValue(rs, i + 1);
+                    if (value != null) {
+                        json.writeStringField(EXPORT_FIELDS[i], value);
+                    }
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            }
+
+            @Override
+            public void finish() throws IOException {
+                json.close();
+            }
+        };
+    }
+
+    private static String exportValue(ResultSet rs, int column) throws SQLException {
+        if (column == EXPORT_COLUMNS.length) {
+            Timestamp createdAt = rs.getTimestamp(column);
+            return createdAt == null ? null : createdAt.toLocalDateTime().toString();
+        }
+        return rs.getString(column);
+    }
+}
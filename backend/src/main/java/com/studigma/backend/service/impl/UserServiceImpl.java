@@ -1,112 +1,218 @@
 package com.studigma.backend.service.impl;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.config.RateLimitProperties;
+import com.studigma.backend.config.StudigmaPrincipal;
 import com.studigma.backend.dto.AuthResponse;
 import com.studigma.backend.dto.LoginRequest;
+import com.studigma.backend.dto.RefreshRequest;
+import com.studigma.backend.dto.RefreshResponse;
 import com.studigma.backend.dto.RegisterRequest;
+import com.studigma.backend.dto.UserDto;
 import com.studigma.backend.entity.RefreshToken;
 import com.studigma.backend.entity.User;
+import com.studigma.backend.enums.AuthEventType;
 import com.studigma.backend.enums.AuthProvider;
+import com.studigma.backend.exception.AuthError;
+import com.studigma.backend.exception.EmailAlreadyRegisteredException;
+import com.studigma.backend.exception.GoogleSignInConflictException;
+import com.studigma.backend.exception.InvalidCredentialsException;
+import com.studigma.backend.exception.TooManyRequestsException;
 import com.studigma.backend.mapper.UserMapper;
 import com.studigma.backend.repository.RefreshTokenRepository;
+import com.studigma.backend.repository.RotatedRefreshToken;
 import com.studigma.backend.repository.UserRepository;
+import com.studigma.backend.service.AuthAuditService;
+import com.studigma.backend.service.AvatarService;
+import com.studigma.backend.service.GoogleTokenVerifier;
 import com.studigma.backend.service.JwtService;
+import com.studigma.backend.service.PasswordHashService;
+import com.studigma.backend.service.RateLimiter;
+import com.studigma.backend.service.TokenRevocationService;
 import com.studigma.backend.service.UserService;
+import com.studigma.backend.util.TokenUtils;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.extern.slf4j.Slf4j;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
-
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+// No class-level @Transactional: password hashing and Google verification run
+// before any transaction is opened, so they never hold a DB connection.
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
-
-    @Value("${google.client.id}")
-    private String googleClientId;
+    private final PasswordHashService passwordHashService;
+    private final TransactionTemplate transactionTemplate;
+    private final GoogleTokenVerifier googleTokenVerifier;
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final AuthAuditService authAuditService;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final AvatarService avatarService;
+    // Boot's applicationTaskExecutor (matched by name): keeps DB writes off the BCrypt pool
+    private final Executor applicationTaskExecutor;
 
     // ==================================
     // ✅ REGISTER
     // ==================================
     @Override
+    @Observed(name = "auth.user", lowCardinalityKeyValues = {"operation", "register"})
     public AuthResponse register(RegisterRequest request) {
 
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new BadCredentialsException("Email already registered");
+        checkAccountLimit(request.getEmail());
+
+        // Filter says "new" → no query. Otherwise reject before paying for BCrypt
+        if (registeredEmailFilter.mightBeRegistered(request.getEmail())
+                && userRepository.existsByEmail(request.getEmail())) {
+            throw EmailAlreadyRegisteredException.INSTANCE;
         }
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        // Hash on the bcrypt executor, outside any transaction
+        String encodedPassword = passwordHashService.encode(request.getPassword());
 
         User user = UserMapper.toLocalUser(request, encodedPassword);
+        user.setId(UUID.randomUUID());
+        user.setCreatedAt(LocalDateTime.now());
+        user.setProfileImageUrl(avatarService.urlFor(user.getId()));
+
+        // One INSERT; a concurrent (or unfiltered) duplicate trips the unique email constraint
+        AuthResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                userRepository.insertLocalUser(user);
+                return generateTokens(user, AuthEventType.REGISTER);
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw EmailAlreadyRegisteredException.INSTANCE;
+            }
+            throw e;
+        }
+        registeredEmailFilter.add(request.getEmail());
+        return response;
+    }
 
-        // Optional avatar
-        String avatarUrl = "https://ui-avatars.com/api/?name="
-                + request.getName().replace(" ", "+");
-        user.setProfileImageUrl(avatarUrl);
-
-        userRepository.save(user);
-
-        return generateTokens(user);
+    // SQLSTATE 23505: the insert lost to an existing (or concurrent) row with this email
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sql
+                && "23505".equals(sql.getSQLState());
     }
 
     // ==================================
     // ✅ LOGIN (LOCAL)
     // ==================================
     @Override
+    @Observed(name = "auth.user", lowCardinalityKeyValues = {"operation", "login"})
     public AuthResponse login(LoginRequest request) {
 
+        // Per-account cap before any BCrypt work
+        checkAccountLimit(request.getEmail());
+
+        try {
+            return authenticate(request);
+        } catch (BadCredentialsException e) {
+            authAuditService.record(AuthEventType.LOGIN_FAILURE, null, request.getEmail(), null);
+            throw e;
+        }
+    }
+
+    private AuthResponse authenticate(LoginRequest request) {
+
         User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
+                .orElseThrow(() -> new InvalidCredentialsException(AuthError.INVALID_CREDENTIALS));
 
         if (user.getProvider() == AuthProvider.GOOGLE) {
-            throw new BadCredentialsException("Please login using Google");
+            throw new InvalidCredentialsException(AuthError.USE_GOOGLE_LOGIN);
         }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new BadCredentialsException("Invalid credentials");
+        if (!passwordHashService.matches(request.getPassword(), user.getPassword())) {
+            throw new InvalidCredentialsException(AuthError.INVALID_CREDENTIALS);
         }
 
-        return generateTokens(user);
+        // Cost changed since this hash was stored → upgrade in the background
+        if (passwordHashService.needsRehash(user.getPassword())) {
+            rehashPassword(user, request.getPassword());
+        }
+
+        return transactionTemplate.execute(status -> generateTokens(user, AuthEventType.LOGIN_SUCCESS));
+    }
+
+    // 🚦 Per-account limit (the filter only sees the client IP)
+    private void checkAccountLimit(String email) {
+        if (!rateLimitProperties.isEnabled() || email == null) {
+            return;
+        }
+
+        long retryAfter = rateLimiter.tryAcquire(
+                rateLimitProperties.getAccount().getPath(),
+                email.toLowerCase(Locale.ROOT),
+                rateLimitProperties.getAccount());
+
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException(AuthError.TOO_MANY_ACCOUNT_ATTEMPTS, retryAfter);
+        }
+    }
+
+    // 🔁 Transparent rehash (best effort, skipped when the executor is busy)
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            passwordHashService.encodeAsync(rawPassword)
+                    .thenAcceptAsync(hash -> userRepository.updatePassword(user, hash), applicationTaskExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Password rehash failed for user {}, retrying on next login: {}",
+                                user.getId(), e.getMessage());
+                        return null;
+                    });
+        } catch (TooManyRequestsException e) {
+            // Try again on the next login
+        }
     }
 
     // ==================================
     // ✅ GOOGLE LOGIN
     // ==================================
     @Override
+    @Observed(name = "auth.user", lowCardinalityKeyValues = {"operation", "google_login"})
     public AuthResponse loginWithGoogle(String idToken) throws Exception {
 
-        GoogleIdTokenVerifier verifier =
-                new GoogleIdTokenVerifier.Builder(
-                        new NetHttpTransport(),
-                        new GsonFactory())
-                        .setAudience(List.of(googleClientId))
-                        .build();
-
-        GoogleIdToken token = verifier.verify(idToken);
+        // Shared verifier → cached Google keys, no per-call HTTPS fetch
+        GoogleIdToken token = googleTokenVerifier.verify(idToken);
 
         if (token == null) {
-            throw new BadCredentialsException("Invalid Google token");
+            throw new InvalidCredentialsException(AuthError.INVALID_GOOGLE_TOKEN);
         }
 
         GoogleIdToken.Payload payload = token.getPayload();
 
         if (!payload.getEmailVerified()) {
-            throw new BadCredentialsException("Email not verified");
+            throw new InvalidCredentialsException(AuthError.EMAIL_NOT_VERIFIED);
         }
 
         String email = payload.getEmail();
@@ -114,37 +220,39 @@ public class UserServiceImpl implements UserService {
         String name = (String) payload.get("name");
         String picture = (String) payload.get("picture");
 
-        User user = userRepository.findByEmail(email)
-                .orElseGet(() -> {
-                    User newUser = UserMapper.toGoogleUser(
-                            email,
-                            name,
-                            googleId,
-                            picture
-                    );
-                    return userRepository.save(newUser);
-                });
+        // Single upsert → concurrent first logins can't race on the unique email.
+        // A miss means another request inserted this user just now; the retry sees it.
+        UUID newId = UUID.randomUUID();
+        return transactionTemplate.execute(status -> {
+            User user = upsertGoogleUser(newId, email, googleId, name, picture)
+                    .or(() -> upsertGoogleUser(newId, email, googleId, name, picture))
+                    .orElseThrow(() -> GoogleSignInConflictException.INSTANCE);
+
+            registeredEmailFilter.add(user.getEmail());
+            AuthEventType event = newId.equals(user.getId())
+                    ? AuthEventType.GOOGLE_SIGNUP
+                    : AuthEventType.LOGIN_SUCCESS;
+            return generateTokens(user, event);
+        });
+    }
 
-        return generateTokens(user);
+    // Fresh timestamp per attempt; the pre-generated id tells a signup from a login
+    private Optional<User> upsertGoogleUser(UUID newId, String email, String googleId, String name, String picture) {
+        return userRepository.upsertGoogleUser(newId, email, googleId, name, picture, LocalDateTime.now());
     }
 
     // ==================================
-    // 🔐 GENERATE TOKENS
+    // 🔐 GENERATE TOKENS (new device session)
     // ==================================
-    private AuthResponse generateTokens(User user) {
-
-        String accessToken = jwtService.generateAccessToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
+    private AuthResponse generateTokens(User user, AuthEventType event) {
 
-        // Remove old refresh tokens
-        refreshTokenRepository.deleteByUser(user);
+        // New family per login → other devices stay signed in
+        UUID sessionId = UUID.randomUUID();
 
-        RefreshToken refreshTokenEntity = new RefreshToken();
-        refreshTokenEntity.setUser(user);
-        refreshTokenEntity.setToken(refreshToken);
-        refreshTokenEntity.setExpiryDate(LocalDateTime.now().plusDays(7));
+        auditAfterCommit(event, user.getId(), user.getEmail(), sessionId);
 
-        refreshTokenRepository.save(refreshTokenEntity);
+        String accessToken = jwtService.generateAccessToken(user, sessionId);
+        String refreshToken = issueRefreshToken(user, sessionId);
 
         return new AuthResponse(
                 accessToken,
@@ -153,37 +261,220 @@ public class UserServiceImpl implements UserService {
         );
     }
 
+    // Opaque refresh token → only its SHA-256 is stored
+    private String issueRefreshToken(User user, UUID familyId) {
+
+        String refreshToken = TokenUtils.newOpaqueToken();
+
+        RefreshToken refreshTokenEntity = new RefreshToken();
+        refreshTokenEntity.setUser(user);
+        refreshTokenEntity.setFamilyId(familyId);
+        refreshTokenEntity.setTokenHash(TokenUtils.sha256(refreshToken));
+        refreshTokenEntity.setExpiryDate(LocalDateTime.now()
+                .plus(Duration.ofMillis(jwtProperties.getRefreshExpiration())));
+
+        refreshTokenRepository.save(refreshTokenEntity);
+
+        return refreshToken;
+    }
+
     // ==================================
-    // 🔁 REFRESH TOKEN
+    // 🔁 REFRESH TOKEN (rotating)
     // ==================================
     @Override
+    @Observed(name = "auth.user", lowCardinalityKeyValues = {"operation", "refresh"})
+    @Transactional(noRollbackFor = BadCredentialsException.class)
     public AuthResponse refreshToken(String refreshToken) {
 
-        RefreshToken storedToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        byte[] tokenHash = TokenUtils.sha256(refreshToken);
+        LocalDateTime now = LocalDateTime.now();
 
-        if (storedToken.getExpiryDate().isBefore(LocalDateTime.now())) {
-            refreshTokenRepository.delete(storedToken);
-            throw new BadCredentialsException("Refresh token expired");
-        }
+        // Happy path: one conditional UPDATE marks the token used
+        RefreshToken storedToken = refreshTokenRepository.consume(tokenHash, now)
+                .orElseGet(() -> rejectOrGraceRefresh(tokenHash, now));
+
+        User user = storedToken.getUser(); // Lazy → users is only read here
 
-        User user = storedToken.getUser();
+        String newRefreshToken = issueRefreshToken(user, storedToken.getFamilyId());
+        String newAccessToken = jwtService.generateAccessToken(user, storedToken.getFamilyId());
 
-        String newAccessToken = jwtService.generateAccessToken(user);
+        auditAfterCommit(AuthEventType.REFRESH, user.getId(), user.getEmail(), storedToken.getFamilyId());
 
         return new AuthResponse(
                 newAccessToken,
-                refreshToken,
+                newRefreshToken,
                 UserMapper.toDto(user)
         );
     }
 
+    // ==================================
+    // 🪶 REFRESH (lightweight)
+    // ==================================
+    @Override
+    @Observed(name = "auth.user", lowCardinalityKeyValues = {"operation", "refresh_light"})
+    public RefreshResponse refresh(RefreshRequest request) {
+
+        byte[] tokenHash = TokenUtils.sha256(request.getRefreshToken());
+        LocalDateTime now = LocalDateTime.now();
+
+        String newRefreshToken = TokenUtils.newOpaqueToken();
+        LocalDateTime newExpiry = now.plus(Duration.ofMillis(jwtProperties.getRefreshExpiration()));
+
+        // No transaction: the single statement is atomic on its own
+        Optional<RotatedRefreshToken> rotated = refreshTokenRepository.rotate(
+                tokenHash, now, TokenUtils.sha256(newRefreshToken), newExpiry);
+
+        if (rotated.isEmpty()) {
+            // Grace window / reuse detection / expiry cleanup → full path
+            return lightResponse(refreshInTransaction(request.getRefreshToken()), request);
+        }
+
+        RotatedRefreshToken row = rotated.get();
+        UserDto user = UserMapper.toDto(row);
+
+        User tokenSubject = User.builder()
+                .id(row.getUserId())
+                .email(row.getEmail())
+                .provider(user.getProvider())
+                .build();
+        String accessToken = jwtService.generateAccessToken(tokenSubject, row.getFamilyId());
+
+        auditAfterCommit(AuthEventType.REFRESH, row.getUserId(), row.getEmail(), row.getFamilyId());
+
+        return lightResponse(new AuthResponse(accessToken, newRefreshToken, user), request);
+    }
+
+    // Same semantics as @Transactional(noRollbackFor = BadCredentialsException):
+    // a detected reuse must still commit its family revocation
+    private AuthResponse refreshInTransaction(String refreshToken) {
+        AtomicReference<BadCredentialsException> rejection = new AtomicReference<>();
+
+        AuthResponse response = transactionTemplate.execute(status -> {
+            try {
+                return refreshToken(refreshToken);
+            } catch (BadCredentialsException e) {
+                rejection.set(e);
+                return null;
+            }
+        });
+
+        if (rejection.get() != null) {
+            throw rejection.get();
+        }
+        return response;
+    }
+
+    // Drop the user unless it was asked for and the client copy is stale
+    private RefreshResponse lightResponse(AuthResponse response, RefreshRequest request) {
+        String etag = UserMapper.etag(response.getUser());
+
+        boolean sendUser = request.isIncludeUser() && !etag.equals(request.getUserEtag());
+
+        return new RefreshResponse(
+                response.getAccessToken(),
+                response.getRefreshToken(),
+                sendUser ? response.getUser() : null,
+                etag
+        );
+    }
+
+    // Token was not consumable: unknown, expired, or already rotated
+    private RefreshToken rejectOrGraceRefresh(byte[] tokenHash, LocalDateTime now) {
+
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new InvalidCredentialsException(AuthError.INVALID_REFRESH_TOKEN));
+
+        if (!storedToken.getExpiryDate().isAfter(now)) {
+            refreshTokenRepository.delete(storedToken);
+            throw new InvalidCredentialsException(AuthError.REFRESH_TOKEN_EXPIRED);
+        }
+
+        if (storedToken.getUsedAt() == null) {
+            throw new InvalidCredentialsException(AuthError.INVALID_REFRESH_TOKEN);
+        }
+
+        // Parallel tabs refreshing at once → sibling token in the same family
+        LocalDateTime graceLimit = storedToken.getUsedAt()
+                .plus(Duration.ofMillis(jwtProperties.getRefreshReuseGrace()));
+
+        if (now.isAfter(graceLimit)) {
+            // Replay of a rotated token → assume theft, revoke the device session
+            refreshTokenRepository.deleteByFamilyId(storedToken.getFamilyId());
+            tokenRevocationService.revokeSession(storedToken.getFamilyId());
+            throw new InvalidCredentialsException(AuthError.REFRESH_TOKEN_REUSED);
+        }
+
+        return storedToken;
+    }
+
+    // ==================================
+    // 👤 CURRENT USER (/me)
+    // ==================================
+    private static final Set<String> PROFILE_FIELDS = Set.of("id", "email", "name", "profileImageUrl", "provider");
+
+    @Override
+    @Observed(name = "auth.user", lowCardinalityKeyValues = {"operation", "me"})
+    public UserDto me(StudigmaPrincipal principal, Set<String> fields) {
+
+        Set<String> requested = fields == null || fields.isEmpty() ? PROFILE_FIELDS : fields;
+        for (String field : requested) {
+            if (!PROFILE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+
+        // Claims carry id + provider, and email on STANDARD tokens
+        boolean claimsOnly = !requested.contains("name")
+                && !requested.contains("profileImageUrl")
+                && (principal.getEmail() != null || !requested.contains("email"));
+
+        UserDto user = claimsOnly
+                ? new UserDto(principal.getUserId(), principal.getEmail(), null, null, principal.getProvider())
+                : userRepository.findById(principal.getUserId())
+                        .map(UserMapper::toDto)
+                        .orElseThrow(() -> new InvalidCredentialsException(AuthError.USER_NOT_FOUND));
+
+        return new UserDto(
+                requested.contains("id") ? user.getId() : null,
+                requested.contains("email") ? user.getEmail() : null,
+                requested.contains("name") ? user.getName() : null,
+                requested.contains("profileImageUrl") ? user.getProfileImageUrl() : null,
+                requested.contains("provider") ? user.getProvider() : null
+        );
+    }
+
     // ==================================
     // 🚪 LOGOUT
     // ==================================
     @Override
+    @Observed(name = "auth.user", lowCardinalityKeyValues = {"operation", "logout"})
+    @Transactional
     public void logout(String refreshToken) {
-        refreshTokenRepository.findByToken(refreshToken)
-                .ifPresent(refreshTokenRepository::delete);
+        refreshTokenRepository.findByTokenHash(TokenUtils.sha256(refreshToken))
+                .ifPresent(storedToken -> {
+                    UUID familyId = storedToken.getFamilyId();
+
+                    // Ends this device session: all rotations + live access tokens
+                    refreshTokenRepository.deleteByFamilyId(familyId);
+                    tokenRevocationService.revokeSession(familyId);
+
+                    // Lazy proxy → id only, no users query
+                    auditAfterCommit(AuthEventType.LOGOUT, storedToken.getUser().getId(), null, familyId);
+                });
+    }
+
+    // 📝 Audit only what actually committed (enqueue only, never blocks)
+    private void auditAfterCommit(AuthEventType event, UUID userId, String email, UUID sessionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            authAuditService.record(event, userId, email, sessionId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                authAuditService.record(event, userId, email, sessionId);
+            }
+        });
     }
 }
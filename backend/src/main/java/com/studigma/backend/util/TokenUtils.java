@@ -0,0 +1,70 @@
+package com.studigma.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+public class TokenUtils {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    // MessageDigest is not thread-safe → clone a prototype per call
+    // (a ThreadLocal would allocate one per virtual thread anyway)
+    private static final MessageDigest SHA_256 = newSha256();
+
+    private TokenUtils() {}
+
+    // 🎲 Opaque random token (256 bits, base64url)
+    public static String newOpaqueToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return BASE64_URL.encodeToString(bytes);
+    }
+
+    // 🔐 Fixed-width 32-byte digest used for storage and lookups
+    public static byte[] sha256(String token) {
+        return sha256Digest().digest(token.getBytes(StandardCharsets.UTF_8)); // = ASCII for tokens
+    }
+
+    // 🪪 UUID as 22 base64url chars (vs 36 for toString)
+    public static String encodeUuid(UUID uuid) {
+        return BASE64_URL.encodeToString(ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array());
+    }
+
+    // null when the input isn't an encoded UUID
+    public static UUID decodeUuid(String encoded) {
+        if (encoded == null || encoded.length() != 22) {
+            return null;
+        }
+        try {
+            ByteBuffer bytes = ByteBuffer.wrap(Base64.getUrlDecoder().decode(encoded));
+            return new UUID(bytes.getLong(), bytes.getLong());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return (MessageDigest) SHA_256.clone();
+        } catch (CloneNotSupportedException e) {
+            return newSha256();
+        }
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
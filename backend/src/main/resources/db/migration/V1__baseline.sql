@@ -0,0 +1,58 @@
+-- Baseline schema (matches the JPA mappings; prod runs ddl-auto=validate).
+-- "if not exists" lets it run over a schema that ddl-auto=update created,
+-- except refresh_tokens: see below.
+
+create table if not exists users (
+    id                uuid         not null primary key,
+    email             varchar(150) not null unique,
+    name              varchar(100) not null,
+    password          varchar(255),
+    profile_image_url varchar(255),
+    google_id         varchar(255) unique,
+    provider          varchar(255) not null check (provider in ('LOCAL', 'GOOGLE')),
+    created_at        timestamp(6)
+);
+
+create index if not exists idx_user_email on users (email);
+create index if not exists idx_user_google_id on users (google_id);
+
+-- Pooled generator: Hibernate reserves 50 ids per nextval
+create sequence if not exists refresh_tokens_seq start with 1 increment by 50;
+
+-- The pre-Flyway refresh_tokens (raw JWT in "token", IDENTITY ids) can't be
+-- altered into this shape: stored tokens never match a hash lookup. It is
+-- dropped and recreated → every existing session has to log in again once.
+drop table if exists refresh_tokens;
+
+create table refresh_tokens (
+    id          bigint       not null primary key,
+    token_hash  bytea        not null,
+    user_id     uuid         not null references users (id),
+    family_id   uuid         not null,
+    expiry_date timestamp(6),
+    used_at     timestamp(6)
+);
+
+create unique index idx_refresh_token on refresh_tokens (token_hash);
+create index idx_refresh_user on refresh_tokens (user_id);
+create index idx_refresh_family on refresh_tokens (family_id);
+create index idx_refresh_expiry on refresh_tokens (expiry_date);
+
+create table if not exists token_revocations (
+    id         bigint generated by default as identity primary key,
+    revoked_id varchar(64)  not null,
+    expires_at timestamp(6) not null
+);
+
+create index if not exists idx_revocation_expiry on token_revocations (expires_at);
+
+-- Audit trail; monthly partitions are added by BatchingAuthAuditService
+create table if not exists auth_events (
+    occurred_at timestamptz not null,
+    event_type  varchar(32) not null,
+    user_id     uuid,
+    email       varchar(255),
+    session_id  uuid
+) partition by range (occurred_at);
+
+create index if not exists idx_auth_events_user on auth_events (user_id, occurred_at);
@@ -0,0 +1,5 @@
+-- LOCAL users registered before self-hosted avatars point at ui-avatars.com
+update users
+   set profile_image_url = '/api/avatars/' || id
+ where provider = 'LOCAL'
+   and profile_image_url like 'https://ui-avatars.com/%';
@@ -0,0 +1,49 @@
+package com.studigma.backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CorsOriginsTest {
+
+    private final CorsOrigins origins = new CorsOrigins(List.of(
+            "http://localhost:3000",
+            "https://*.studigma.com/",
+            "https://*.preview.studigma.app:8443"));
+
+    @Test
+    void exactOriginsMatchAsConfigured() {
+        assertThat(origins.allows("http://localhost:3000")).isTrue();
+        assertThat(origins.allows("http://localhost:3001")).isFalse();
+        assertThat(origins.allows("https://localhost:3000")).isFalse();
+    }
+
+    @Test
+    void wildcardMatchesAnySubdomainButNotTheApexOrLookalikes() {
+        assertThat(origins.allows("https://app.studigma.com")).isTrue();
+        assertThat(origins.allows("https://eu.app.studigma.com")).isTrue();
+        assertThat(origins.allows("https://pr-42.preview.studigma.app:8443")).isTrue();
+
+        assertThat(origins.allows("https://studigma.com")).isFalse();
+        assertThat(origins.allows("https://.studigma.com")).isFalse();
+        assertThat(origins.allows("https://a..studigma.com")).isFalse();
+        assertThat(origins.allows("https://evilstudigma.com")).isFalse();
+        assertThat(origins.allows("http://app.studigma.com")).isFalse();
+        assertThat(origins.allows("https://evil.com#.studigma.com")).isFalse();
+        assertThat(origins.allows("https://evil.com:1@x.studigma.com")).isFalse();
+        assertThat(origins.allows("https://pr-42.preview.studigma.app")).isFalse();
+    }
+
+    @Test
+    void rejectsPatternsItCannotMatchLinearly() {
+        assertThatThrownBy(() -> new CorsOrigins(List.of("*")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CorsOrigins(List.of("https://app-*.studigma.com")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CorsOrigins(List.of("https://*.*.studigma.com")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.studigma.backend.config;
+
+import com.studigma.backend.service.CacheInvalidationBus.Invalidation;
+import com.studigma.backend.service.impl.InMemoryCacheInvalidationBus;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheManagerTest {
+
+    @Test
+    void evictionOnOneNodeDropsTheEntryOnTheOther() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        Cache nodeA = newNode(bus).getCache(CacheConfig.USERS_BY_EMAIL);
+        Cache nodeB = newNode(bus).getCache(CacheConfig.USERS_BY_EMAIL);
+
+        nodeA.put("student@example.com", "user-a");
+        nodeB.put("student@example.com", "user-b");
+        nodeB.put("teacher@example.com", "user-c");
+
+        nodeA.evict("student@example.com");
+
+        assertThat(nodeA.get("student@example.com")).isNull();
+        assertThat(nodeB.get("student@example.com")).isNull();
+        assertThat(nodeB.get("teacher@example.com")).isNotNull();
+
+        nodeA.clear();
+        assertThat(nodeB.get("teacher@example.com")).isNull();
+    }
+
+    @Test
+    void missedMessagesClearEveryCacheOfTheNode() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        CacheConfig.NearCacheManager node = newNode(bus);
+        Cache byEmail = node.getCache(CacheConfig.USERS_BY_EMAIL);
+        Cache byId = node.getCache(CacheConfig.USERS_BY_ID);
+
+        byEmail.put("student@example.com", "user-a");
+        byId.put("id-a", "user-a");
+
+        bus.publish(Invalidation.EVERYTHING);
+
+        assertThat(byEmail.get("student@example.com")).isNull();
+        assertThat(byId.get("id-a")).isNull();
+    }
+
+    private static CacheConfig.NearCacheManager newNode(InMemoryCacheInvalidationBus bus) {
+        CacheConfig.NearCacheManager manager = new CacheConfig.NearCacheManager(bus);
+        manager.setCacheNames(List.of(CacheConfig.USERS_BY_EMAIL, CacheConfig.USERS_BY_ID));
+        return manager;
+    }
+}
@@ -0,0 +1,32 @@
+package com.studigma.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObservabilityConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(ObservabilityConfig.class, ObservabilityProperties.class);
+
+    @Test
+    void slowAuthLoggerIsOnByDefault() {
+        contextRunner.run(context -> assertThat(context).hasSingleBean(SlowAuthObservationLogger.class));
+    }
+
+    @Test
+    void slowAuthLoggerFollowsAPositiveThreshold() {
+        contextRunner.withPropertyValues("app.observability.slow-auth-millis=250")
+                .run(context -> assertThat(context).hasSingleBean(SlowAuthObservationLogger.class));
+    }
+
+    @Test
+    void zeroTurnsSlowAuthLoggingOff() {
+        contextRunner.withPropertyValues("app.observability.slow-auth-millis=0")
+                .run(context -> assertThat(context).doesNotHaveBean(SlowAuthObservationLogger.class));
+    }
+}
@@ -0,0 +1,31 @@
+package com.studigma.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studigma.backend.enums.AuthProvider;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserFieldsDtoTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final UserDto user = new UserDto(UUID.randomUUID(), "student@studigma.com", null, null, AuthProvider.LOCAL);
+
+    @Test
+    void authResponsesKeepNullFields() throws Exception {
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(user)).has("profileImageUrl")).isTrue();
+    }
+
+    @Test
+    void fieldFilteredProfileOmitsThem() throws Exception {
+        String json = objectMapper.writeValueAsString(new UserFieldsDto(user));
+
+        assertThat(objectMapper.readTree(json).has("profileImageUrl")).isFalse();
+        assertThat(objectMapper.readTree(json).has("name")).isFalse();
+        assertThat(objectMapper.readTree(json).get("email").asText()).isEqualTo("student@studigma.com");
+    }
+}
@@ -0,0 +1,72 @@
+package com.studigma.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthEventRingBufferTest {
+
+    @Test
+    void rejectsWhenFullAndReusesSlotsAfterDrain() {
+        AuthEventRingBuffer<Integer> ring = new AuthEventRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i)).isTrue();
+        }
+        assertThat(ring.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(ring.drainTo(drained, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+
+        assertThat(ring.offer(5)).isTrue();
+        drained.clear();
+        ring.drainTo(drained, 10);
+        assertThat(drained).containsExactly(3, 5);
+        assertThat(ring.size()).isZero();
+    }
+
+    @Test
+    void deliversEveryElementOnceUnderConcurrentProducers() throws Exception {
+        AuthEventRingBuffer<Integer> ring = new AuthEventRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            pool.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ring.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (seen.size() < producers * perProducer) {
+            batch.clear();
+            ring.drainTo(batch, 256);
+            for (Integer element : batch) {
+                assertThat(seen.add(element)).isTrue();
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+        assertThat(ring.size()).isZero();
+    }
+}
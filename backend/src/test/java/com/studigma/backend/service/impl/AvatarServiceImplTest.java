@@ -0,0 +1,43 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.AvatarProperties;
+import com.studigma.backend.repository.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvatarServiceImplTest {
+
+    @TempDir
+    Path dir;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    void unknownIdsHitTheDatabaseOnlyOnce() throws Exception {
+        AvatarProperties properties = new AvatarProperties();
+        properties.setCacheFile(dir.resolve("avatars").toString());
+        UUID unknown = UUID.randomUUID();
+        when(userRepository.findById(unknown)).thenReturn(Optional.empty());
+
+        AvatarServiceImpl service = new AvatarServiceImpl(userRepository, properties);
+        try {
+            assertThat(service.find(unknown)).isEmpty();
+            assertThat(service.find(unknown)).isEmpty();
+
+            verify(userRepository, times(1)).findById(unknown);
+        } finally {
+            service.close();
+        }
+    }
+}
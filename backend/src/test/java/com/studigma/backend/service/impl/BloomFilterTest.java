@@ -0,0 +1,49 @@
+package com.studigma.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void neverForgetsAnInsertedValue() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@studigma.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@studigma.com")).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    void keepsFalsePositivesNearTheConfiguredRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@studigma.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("stranger" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+
+        // 1% target → allow some slack for hash variance
+        assertThat(falsePositives).isLessThan(1_500);
+    }
+
+    @Test
+    void sizesBitsAndHashesFromTheTargetRate() {
+        BloomFilter filter = new BloomFilter(1_000_000, 0.01);
+
+        // ~9.6 bits per element, 7 probes
+        assertThat(filter.sizeInBytes()).isBetween(1_190_000L, 1_210_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+}
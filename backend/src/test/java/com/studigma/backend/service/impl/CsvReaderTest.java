@@ -0,0 +1,56 @@
+package com.studigma.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAndTracksTheLineEachRecordStartsOn() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(
+                "email,name,password\r\n"
+                        + "ann@studigma.com,\"Ann, B.\",secret123\r\n"
+                        + "\n"
+                        + "\"bob@studigma.com\",\"Bob \"\"The Builder\"\"\",\"multi\nline\"\n"
+                        + "carl@studigma.com,,x"));
+
+        assertThat(csv.next()).containsExactly("email", "name", "password");
+        assertThat(csv.line()).isEqualTo(1);
+
+        assertThat(csv.next()).containsExactly("ann@studigma.com", "Ann, B.", "secret123");
+        assertThat(csv.line()).isEqualTo(2);
+
+        assertThat(csv.next()).containsExactly("bob@studigma.com", "Bob \"The Builder\"", "multi\nline");
+        assertThat(csv.line()).isEqualTo(4);
+
+        assertThat(csv.next()).containsExactly("carl@studigma.com", "", "x");
+        assertThat(csv.line()).isEqualTo(6);
+
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void readsRecordsLongerThanItsBuffer() throws IOException {
+        String name = "n".repeat(20_000);
+        CsvReader csv = new CsvReader(new StringReader("a@studigma.com," + name + ",pw\nb@studigma.com,b,pw\n"));
+
+        assertThat(csv.next()).containsExactly("a@studigma.com", name, "pw");
+        assertThat(csv.next()).containsExactly("b@studigma.com", "b", "pw");
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void rejectsAQuoteThatIsNeverClosed() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("ok@studigma.com,Ok,pw\n\"broken,Broken,pw\n"));
+
+        assertThat(csv.next()).containsExactly("ok@studigma.com", "Ok", "pw");
+        assertThatThrownBy(csv::next).isInstanceOf(IllegalArgumentException.class);
+        assertThat(csv.line()).isEqualTo(2);
+        assertThat(csv.next()).isNull();
+    }
+}
@@ -0,0 +1,46 @@
+package com.studigma.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvWriterTest {
+
+    @Test
+    void quotesOnlyWhenNeeded() throws IOException {
+        assertThat(write("ann@studigma.com")).isEqualTo("ann@studigma.com");
+        assertThat(write("Ann, B.")).isEqualTo("\"Ann, B.\"");
+        assertThat(write("Bob \"The Builder\"")).isEqualTo("\"Bob \"\"The Builder\"\"\"");
+        assertThat(write(null)).isEmpty();
+        assertThat(write("")).isEmpty();
+    }
+
+    @Test
+    void neutralisesCellsASpreadsheetWouldEvaluate() throws IOException {
+        assertThat(write("=HYPERLINK(\"http://evil\",\"x\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\"");
+        assertThat(write("+1+1")).isEqualTo("\"'+1+1\"");
+        assertThat(write("-2+3")).isEqualTo("\"'-2+3\"");
+        assertThat(write("@SUM(A1)")).isEqualTo("\"'@SUM(A1)\"");
+        assertThat(write("\t=1")).isEqualTo("\"'\t=1\"");
+        assertThat(write("\r=1")).isEqualTo("\"'\r=1\"");
+        assertThat(write("a=b")).isEqualTo("a=b");
+    }
+
+    @Test
+    void readsBackWhatItWrites() throws IOException {
+        String row = write("=cmd") + "," + write("x, \"y\"\nz");
+
+        assertThat(new CsvReader(new StringReader(row)).next()).containsExactly("'=cmd", "x, \"y\"\nz");
+    }
+
+    private static String write(String value) throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter.field(out, value);
+        return out.toString();
+    }
+}
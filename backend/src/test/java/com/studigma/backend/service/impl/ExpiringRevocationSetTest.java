@@ -0,0 +1,37 @@
+package com.studigma.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringRevocationSetTest {
+
+    @Test
+    void dropsIdsOnceTheirBucketHasPassed() {
+        ExpiringRevocationSet set = new ExpiringRevocationSet();
+        long now = 1_000_000_000L;
+
+        set.add("session-a", now + 30_000);
+        set.add("session-b", now + 10 * 60_000);
+
+        set.evictExpired(now);
+        assertThat(set.contains("session-a")).isTrue();
+
+        set.evictExpired(now + 2 * 60_000);
+        assertThat(set.contains("session-a")).isFalse();
+        assertThat(set.contains("session-b")).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsIdRevokedAgainWithLaterExpiry() {
+        ExpiringRevocationSet set = new ExpiringRevocationSet();
+        long now = 1_000_000_000L;
+
+        set.add("session-a", now + 30_000);
+        set.add("session-a", now + 10 * 60_000);
+
+        set.evictExpired(now + 2 * 60_000);
+        assertThat(set.contains("session-a")).isTrue();
+    }
+}
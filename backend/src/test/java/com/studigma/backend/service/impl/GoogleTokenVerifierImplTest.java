@@ -0,0 +1,73 @@
+package com.studigma.backend.service.impl;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoogleTokenVerifierImplTest {
+
+    private static final String CLIENT_ID = "test-client.apps.googleusercontent.com";
+
+    private KeyPair keyPair;
+    private GoogleKeyCache keyCache;
+    private GoogleTokenVerifierImpl verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+
+        keyCache = new GoogleKeyCache(StaticGoogleKeySource.of("kid-1", keyPair.getPublic()), 300, 30);
+        verifier = new GoogleTokenVerifierImpl(keyCache, CLIENT_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyCache.close();
+    }
+
+    @Test
+    void acceptsTokenSignedWithKnownKey() throws Exception {
+        GoogleIdToken token = verifier.verify(sign("kid-1", CLIENT_ID));
+
+        assertThat(token).isNotNull();
+        assertThat(token.getPayload().getEmail()).isEqualTo("student@example.com");
+    }
+
+    @Test
+    void rejectsUnknownKidAndWrongAudience() throws Exception {
+        assertThat(verifier.verify(sign("kid-2", CLIENT_ID))).isNull();
+        assertThat(verifier.verify(sign("kid-1", "someone-else"))).isNull();
+        assertThat(verifier.verify("not-a-token")).isNull();
+    }
+
+    private String sign(String kid, String audience) throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+
+        JsonWebSignature.Header header = new JsonWebSignature.Header()
+                .setAlgorithm("RS256")
+                .setKeyId(kid);
+
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload()
+                .setIssuer("https://accounts.google.com")
+                .setAudience(audience)
+                .setSubject("google-123")
+                .setEmail("student@example.com")
+                .setEmailVerified(true)
+                .setIssuedAtTimeSeconds(now)
+                .setExpirationTimeSeconds(now + 3600);
+
+        return JsonWebSignature.signUsingRsaSha256(
+                keyPair.getPrivate(), GsonFactory.getDefaultInstance(), header, payload);
+    }
+}
@@ -0,0 +1,170 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.config.StudigmaPrincipal;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.enums.AuthProvider;
+import com.studigma.backend.util.TokenUtils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtServiceImplTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .email("student@studigma.com")
+            .provider(AuthProvider.LOCAL)
+            .build();
+
+    @Test
+    void oldKeyKeepsVerifyingAfterRotation() throws Exception {
+        KeyPair oldPair = JwtKeyRing.generateEs256();
+        KeyPair newPair = JwtKeyRing.generateEs256();
+
+        JwtServiceImpl before = service(es256("old", List.of(key("old", oldPair, true))));
+        String oldToken = before.generateAccessToken(user, UUID.randomUUID());
+
+        JwtProperties rotated = es256("new", List.of(key("old", oldPair, false), key("new", newPair, true)));
+        JwtServiceImpl after = service(rotated);
+        String newToken = after.generateAccessToken(user, UUID.randomUUID());
+
+        assertThat(after.verifyAccessToken(oldToken)).isNotNull();
+        assertThat(after.verifyAccessToken(newToken).getUserId()).isEqualTo(user.getId());
+
+        // Old key dropped from the ring → its tokens stop verifying
+        JwtServiceImpl retired = service(es256("new", List.of(key("new", newPair, true))));
+        assertThat(retired.verifyAccessToken(oldToken)).isNull();
+        assertThat(retired.verifyAccessToken(newToken)).isNotNull();
+    }
+
+    @Test
+    void acceptsLegacyHs256TokensAndPublishesOnlyPublicKeys() throws Exception {
+        JwtProperties hs256 = new JwtProperties();
+        hs256.setSecret(SECRET);
+        hs256.setAccessExpiration(60_000);
+        String legacyToken = service(hs256).generateAccessToken(user, UUID.randomUUID());
+
+        KeyPair pair = JwtKeyRing.generateEs256();
+        JwtProperties migrating = es256("k1", List.of(key("k1", pair, true)));
+        migrating.setAcceptLegacyHs256(true);
+        JwtServiceImpl es256 = service(migrating);
+
+        assertThat(es256.verifyAccessToken(legacyToken)).isNotNull();
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) es256.jwks().get("keys");
+        assertThat(keys).singleElement().satisfies(jwk -> {
+            assertThat(jwk).containsEntry("kid", "k1").containsEntry("crv", "P-256");
+            assertThat(jwk).doesNotContainKey("d");
+        });
+    }
+
+    @Test
+    void rejectsLegacyHs256TokensInEs256ModeByDefault() throws Exception {
+        JwtProperties hs256 = new JwtProperties();
+        hs256.setSecret(SECRET);
+        hs256.setAccessExpiration(60_000);
+        String standardToken = service(hs256).generateAccessToken(user, UUID.randomUUID());
+        hs256.setTokenFormat(JwtProperties.TokenFormat.COMPACT);
+        String compactToken = service(hs256).generateAccessToken(user, UUID.randomUUID());
+
+        KeyPair pair = JwtKeyRing.generateEs256();
+        JwtServiceImpl es256 = service(es256("k1", List.of(key("k1", pair, true))));
+
+        assertThat(es256.verifyAccessToken(standardToken)).isNull();
+        assertThat(es256.verifyAccessToken(compactToken)).isNull();
+    }
+
+    @Test
+    void compactTokensRoundTripAndStandardTokensKeepVerifying() {
+        JwtProperties standard = new JwtProperties();
+        standard.setSecret(SECRET);
+        standard.setAccessExpiration(60_000);
+        String standardToken = service(standard).generateAccessToken(user, UUID.randomUUID());
+
+        JwtProperties compact = new JwtProperties();
+        compact.setSecret(SECRET);
+        compact.setAccessExpiration(60_000);
+        compact.setTokenFormat(JwtProperties.TokenFormat.COMPACT);
+        JwtServiceImpl service = service(compact);
+
+        UUID sessionId = UUID.randomUUID();
+        String compactToken = service.generateAccessToken(user, sessionId);
+
+        StudigmaPrincipal principal = service.verifyAccessToken(compactToken);
+        assertThat(principal.getUserId()).isEqualTo(user.getId());
+        assertThat(principal.getProvider()).isEqualTo(AuthProvider.LOCAL);
+        assertThat(principal.getSessionId()).isEqualTo(sessionId.toString());
+        assertThat(principal.getEmail()).isNull();
+        assertThat(compactToken.length()).isLessThan(standardToken.length());
+
+        assertThat(service.verifyAccessToken(standardToken).getEmail()).isEqualTo(user.getEmail());
+
+        // Flip one signature character → rejected
+        int last = compactToken.length() - 2;
+        char flipped = compactToken.charAt(last) == 'A' ? 'B' : 'A';
+        String tampered = compactToken.substring(0, last) + flipped + compactToken.substring(last + 1);
+        assertThat(service.verifyAccessToken(tampered)).isNull();
+    }
+
+    @Test
+    void compactPayloadScannerRejectsExpiredAndForeignShapes() {
+        String sub = TokenUtils.encodeUuid(UUID.randomUUID());
+        String sid = TokenUtils.encodeUuid(UUID.randomUUID());
+        String valid = "{\"sub\":\"" + sub + "\",\"p\":\"G\",\"sid\":\"" + sid + "\",\"exp\":2000}";
+
+        assertThat(CompactTokenCodec.parsePayload(ascii(valid), 1_000_000L).getProvider()).isEqualTo(AuthProvider.GOOGLE);
+        assertThat(CompactTokenCodec.parsePayload(ascii(valid), 2_000_000L)).isNull();
+        assertThat(CompactTokenCodec.parsePayload(ascii("{\"sub\":{\"x\":1}}"), 0)).isNull();
+        assertThat(CompactTokenCodec.parsePayload(ascii("{\"sub\":\"a\\\"b\"}"), 0)).isNull();
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static JwtServiceImpl service(JwtProperties properties) {
+        JwtServiceImpl service = new JwtServiceImpl(properties);
+        service.init();
+        return service;
+    }
+
+    private static JwtProperties es256(String activeKid, List<JwtProperties.SigningKey> keys) {
+        JwtProperties properties = new JwtProperties();
+        properties.setAlgorithm(JwtProperties.Algorithm.ES256);
+        properties.setSecret(SECRET);
+        properties.setAccessExpiration(60_000);
+        properties.setActiveKid(activeKid);
+        properties.setKeys(keys);
+        return properties;
+    }
+
+    private static JwtProperties.SigningKey key(String kid, KeyPair pair, boolean withPrivate) {
+        JwtProperties.SigningKey key = new JwtProperties.SigningKey();
+        key.setKid(kid);
+        key.setPublicKey(pem("PUBLIC KEY", pair.getPublic()));
+        if (withPrivate) {
+            key.setPrivateKey(pem("PRIVATE KEY", pair.getPrivate()));
+        }
+        return key;
+    }
+
+    private static ByteArrayResource pem(String type, Key key) {
+        String body = Base64.getMimeEncoder().encodeToString(key.getEncoded());
+        String pem = "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+        return new ByteArrayResource(pem.getBytes(StandardCharsets.US_ASCII));
+    }
+}
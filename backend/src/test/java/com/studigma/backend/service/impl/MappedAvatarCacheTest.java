@@ -0,0 +1,79 @@
+package com.studigma.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedAvatarCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void evictsTheLeastRecentlyUsedUnpinnedSlot() throws Exception {
+        try (MappedAvatarCache cache = new MappedAvatarCache(dir.resolve("avatars"), 3 * 64, 64)) {
+            cache.put("a", bytes("A")).close();
+            cache.put("b", bytes("B")).close();
+            cache.put("c", bytes("C")).close();
+
+            // Touch "a" → "b" is now the oldest
+            cache.acquire("a").close();
+            cache.put("d", bytes("D")).close();
+
+            assertThat(cache.acquire("b")).isNull();
+            assertThat(text(cache.acquire("a"))).isEqualTo("A");
+            assertThat(cache.size()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void neverRecyclesAPinnedSlot() throws Exception {
+        try (MappedAvatarCache cache = new MappedAvatarCache(dir.resolve("avatars"), 64, 64)) {
+            MappedAvatarCache.Entry pinned = cache.put("a", bytes("A"));
+
+            assertThat(cache.put("b", bytes("B"))).isNull();
+            assertThat(text(pinned)).isEqualTo("A");
+
+            pinned.close();
+            assertThat(text(cache.put("b", bytes("B")))).isEqualTo("B");
+        }
+    }
+
+    @Test
+    void keepsEntriesAcrossRestarts() throws Exception {
+        Path file = dir.resolve("avatars");
+        try (MappedAvatarCache cache = new MappedAvatarCache(file, 4 * 64, 64)) {
+            cache.put("a", bytes("A")).close();
+            cache.put("b", bytes("B")).close();
+        }
+
+        try (MappedAvatarCache reopened = new MappedAvatarCache(file, 4 * 64, 64)) {
+            assertThat(reopened.size()).isEqualTo(2);
+            assertThat(text(reopened.acquire("b"))).isEqualTo("B");
+        }
+    }
+
+    @Test
+    void skipsBodiesLargerThanASlot() throws Exception {
+        try (MappedAvatarCache cache = new MappedAvatarCache(dir.resolve("avatars"), 64, 64)) {
+            assertThat(cache.put("a", new byte[64])).isNull();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(MappedAvatarCache.Entry entry) {
+        ByteBuffer body = entry.body();
+        byte[] copy = new byte[body.remaining()];
+        body.get(copy);
+        entry.close();
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+}
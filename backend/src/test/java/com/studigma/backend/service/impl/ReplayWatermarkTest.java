@@ -0,0 +1,27 @@
+package com.studigma.backend.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplayWatermarkTest {
+
+    @Test
+    void rescansIdsSeenWithinTheOverlapSoLateCommitsAreNotSkipped() {
+        ReplayWatermark watermark = new ReplayWatermark(10_000);
+
+        // Id 6 committed and replayed while id 5 is still in an open transaction
+        assertThat(watermark.scanFrom(0)).isZero();
+        watermark.record(0, 6);
+
+        // Id 5 commits a few seconds later: the poll still starts below it
+        assertThat(watermark.scanFrom(4_000)).isZero();
+        watermark.record(4_000, 6);
+
+        // Once the overlap has passed, the start catches up with what was seen back then
+        assertThat(watermark.scanFrom(10_000)).isEqualTo(6);
+        watermark.record(10_000, 9);
+        assertThat(watermark.scanFrom(13_999)).isEqualTo(6);
+        assertThat(watermark.scanFrom(20_000)).isEqualTo(9);
+    }
+}
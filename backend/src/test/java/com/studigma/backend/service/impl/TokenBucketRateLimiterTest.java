@@ -0,0 +1,36 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.RateLimitProperties;
+import com.studigma.backend.config.RateLimitProperties.Limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(new RateLimitProperties());
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfter() {
+        Limit limit = new Limit("/api/auth/login", 3, 6); // one token every 10s
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("login", "10.0.0.1", limit)).isZero();
+        }
+
+        long retryAfter = rateLimiter.tryAcquire("login", "10.0.0.1", limit);
+        assertThat(retryAfter).isBetween(1L, 10L);
+    }
+
+    @Test
+    void keepsSeparateBucketsPerKeyAndScope() {
+        Limit limit = new Limit("/api/auth/login", 1, 1);
+
+        assertThat(rateLimiter.tryAcquire("login", "10.0.0.1", limit)).isZero();
+        assertThat(rateLimiter.tryAcquire("login", "10.0.0.1", limit)).isPositive();
+
+        assertThat(rateLimiter.tryAcquire("login", "10.0.0.2", limit)).isZero();
+        assertThat(rateLimiter.tryAcquire("register", "10.0.0.1", limit)).isZero();
+    }
+}
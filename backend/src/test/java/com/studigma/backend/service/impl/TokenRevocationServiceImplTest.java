@@ -0,0 +1,58 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.repository.TokenRevocationRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationServiceImplTest {
+
+    private final TokenRevocationServiceImpl service =
+            new TokenRevocationServiceImpl(mock(TokenRevocationRepository.class), new JwtProperties());
+
+    private final UUID sessionId = UUID.randomUUID();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void revokesImmediatelyOutsideATransaction() {
+        service.revokeSession(sessionId);
+
+        assertThat(service.isRevoked(sessionId.toString())).isTrue();
+    }
+
+    @Test
+    void revokesInMemoryOnlyOnceTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.revokeSession(sessionId);
+        assertThat(service.isRevoked(sessionId.toString())).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(service.isRevoked(sessionId.toString())).isTrue();
+    }
+
+    @Test
+    void rolledBackRevocationLeavesTheSessionUsable() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.revokeSession(sessionId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(service.isRevoked(sessionId.toString())).isFalse();
+    }
+}
@@ -0,0 +1,296 @@
+package com.studigma.backend.service.impl;
+
+import com.studigma.backend.config.JwtProperties;
+import com.studigma.backend.config.RateLimitProperties;
+import com.studigma.backend.config.StudigmaPrincipal;
+import com.studigma.backend.dto.AuthResponse;
+import com.studigma.backend.dto.LoginRequest;
+import com.studigma.backend.dto.RefreshRequest;
+import com.studigma.backend.dto.RefreshResponse;
+import com.studigma.backend.entity.RefreshToken;
+import com.studigma.backend.entity.User;
+import com.studigma.backend.enums.AuthProvider;
+import com.studigma.backend.exception.AuthError;
+import com.studigma.backend.exception.InvalidCredentialsException;
+import com.studigma.backend.repository.RefreshTokenRepository;
+import com.studigma.backend.repository.UserRepository;
+import com.studigma.backend.service.AuthAuditService;
+import com.studigma.backend.service.AvatarService;
+import com.studigma.backend.service.GoogleTokenVerifier;
+import com.studigma.backend.service.PasswordHashService;
+import com.studigma.backend.service.RateLimiter;
+import com.studigma.backend.service.TokenRevocationService;
+import com.studigma.backend.service.UserService;
+import com.studigma.backend.util.TokenUtils;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Refresh-token rotation: repositories are mocks, transactions go through a
+// recording manager so commit vs rollback is visible
+class UserServiceImplTest {
+
+    private static final String PRESENTED = "presented-refresh-token";
+    private static final byte[] PRESENTED_HASH = TokenUtils.sha256(PRESENTED);
+
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .email("student@studigma.com")
+            .name("Ada Student")
+            .provider(AuthProvider.LOCAL)
+            .build();
+
+    private final UUID familyId = UUID.randomUUID();
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHashService passwordHashService = mock(PasswordHashService.class);
+    private final List<Runnable> taskExecutor = new ArrayList<>();
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final RecordingTransactionManager transactions = new RecordingTransactionManager();
+    private final JwtProperties jwtProperties = jwtProperties();
+    private final JwtServiceImpl jwtService = jwtService(jwtProperties);
+
+    private final UserServiceImpl target = new UserServiceImpl(
+            userRepository,
+            refreshTokenRepository,
+            jwtService,
+            passwordHashService,
+            new TransactionTemplate(transactions),
+            mock(GoogleTokenVerifier.class),
+            jwtProperties,
+            tokenRevocationService,
+            mock(RateLimiter.class),
+            new RateLimitProperties(),
+            mock(AuthAuditService.class),
+            mock(RegisteredEmailFilter.class),
+            mock(AvatarService.class),
+            taskExecutor::add);
+
+    // What callers get from Spring: @Transactional(noRollbackFor = ...) applied
+    private final UserService userService = transactional(target);
+
+    @Test
+    void rotatesAnUnusedTokenWithinItsFamily() {
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Optional.of(stored(null, 60)));
+
+        AuthResponse response = userService.refreshToken(PRESENTED);
+
+        RefreshToken successor = savedToken();
+        assertThat(successor.getFamilyId()).isEqualTo(familyId);
+        assertThat(successor.getTokenHash()).isEqualTo(TokenUtils.sha256(response.getRefreshToken()));
+        assertThat(response.getRefreshToken()).isNotEqualTo(PRESENTED);
+        assertSessionOf(response.getAccessToken());
+
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+        verify(tokenRevocationService, never()).revokeSession(any());
+        assertThat(transactions.commits).isEqualTo(1);
+    }
+
+    @Test
+    void reuseInsideTheGraceWindowIssuesASiblingToken() {
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(PRESENTED_HASH))
+                .thenReturn(Optional.of(stored(LocalDateTime.now().minusSeconds(1), 60)));
+
+        AuthResponse response = userService.refreshToken(PRESENTED);
+
+        assertThat(savedToken().getFamilyId()).isEqualTo(familyId);
+        assertSessionOf(response.getAccessToken());
+        verify(refreshTokenRepository, never()).deleteByFamilyId(any());
+        verify(tokenRevocationService, never()).revokeSession(any());
+    }
+
+    @Test
+    void reuseAfterTheGraceWindowRevokesTheSessionAndStillCommits() {
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(PRESENTED_HASH))
+                .thenReturn(Optional.of(stored(LocalDateTime.now().minusMinutes(1), 60)));
+
+        assertRejected(() -> userService.refreshToken(PRESENTED), AuthError.REFRESH_TOKEN_REUSED);
+
+        verify(refreshTokenRepository).deleteByFamilyId(familyId);
+        verify(tokenRevocationService).revokeSession(familyId);
+        verify(refreshTokenRepository, never()).save(any());
+        assertThat(transactions.commits).isEqualTo(1);
+        assertThat(transactions.rollbacks).isZero();
+    }
+
+    @Test
+    void expiredTokenIsDeletedAndRejected() {
+        RefreshToken expired = stored(null, -60);
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(PRESENTED_HASH)).thenReturn(Optional.of(expired));
+
+        assertRejected(() -> userService.refreshToken(PRESENTED), AuthError.REFRESH_TOKEN_EXPIRED);
+
+        verify(refreshTokenRepository).delete(expired);
+        verify(tokenRevocationService, never()).revokeSession(any());
+        assertThat(transactions.commits).isEqualTo(1);
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(PRESENTED_HASH)).thenReturn(Optional.empty());
+
+        assertRejected(() -> userService.refreshToken(PRESENTED), AuthError.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    void lightRefreshFallsBackToTheTransactionalPath() {
+        when(refreshTokenRepository.rotate(any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(PRESENTED_HASH))
+                .thenReturn(Optional.of(stored(LocalDateTime.now().minusSeconds(1), 60)));
+
+        RefreshResponse response = userService.refresh(request(true));
+
+        assertThat(savedToken().getFamilyId()).isEqualTo(familyId);
+        assertSessionOf(response.getAccessToken());
+        assertThat(response.getUser().getId()).isEqualTo(user.getId());
+        assertThat(response.getUserEtag()).isNotNull();
+        assertThat(transactions.commits).isEqualTo(1);
+    }
+
+    @Test
+    void lightRefreshFallbackCommitsTheRevocationOfAReusedToken() {
+        when(refreshTokenRepository.rotate(any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.consume(any(), any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.findByTokenHash(PRESENTED_HASH))
+                .thenReturn(Optional.of(stored(LocalDateTime.now().minusMinutes(1), 60)));
+
+        assertRejected(() -> userService.refresh(request(false)), AuthError.REFRESH_TOKEN_REUSED);
+
+        verify(refreshTokenRepository).deleteByFamilyId(familyId);
+        verify(tokenRevocationService).revokeSession(familyId);
+        assertThat(transactions.commits).isEqualTo(1);
+        assertThat(transactions.rollbacks).isZero();
+    }
+
+    @Test
+    void rehashWritesOffTheHashingPoolAndSurvivesAFailedWrite() {
+        user.setPassword("old-hash");
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(passwordHashService.matches("secret", "old-hash")).thenReturn(true);
+        when(passwordHashService.needsRehash("old-hash")).thenReturn(true);
+        when(passwordHashService.encodeAsync("secret")).thenReturn(CompletableFuture.completedFuture("new-hash"));
+        when(userRepository.updatePassword(user, "new-hash")).thenThrow(new QueryTimeoutException("timeout"));
+
+        LoginRequest request = new LoginRequest();
+        request.setEmail(user.getEmail());
+        request.setPassword("secret");
+        assertSessionOf(userService.login(request).getAccessToken(), savedToken().getFamilyId());
+
+        verify(userRepository, never()).updatePassword(any(), any());
+        assertThat(taskExecutor).hasSize(1);
+
+        taskExecutor.forEach(Runnable::run);
+        verify(userRepository).updatePassword(user, "new-hash");
+    }
+
+    // usedAt null → never rotated; expiry relative to now
+    private RefreshToken stored(LocalDateTime usedAt, long expiresInSeconds) {
+        RefreshToken token = new RefreshToken();
+        token.setUser(user);
+        token.setFamilyId(familyId);
+        token.setTokenHash(PRESENTED_HASH);
+        token.setUsedAt(usedAt);
+        token.setExpiryDate(LocalDateTime.now().plusSeconds(expiresInSeconds));
+        return token;
+    }
+
+    private RefreshToken savedToken() {
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private void assertSessionOf(String accessToken) {
+        assertSessionOf(accessToken, familyId);
+    }
+
+    private void assertSessionOf(String accessToken, UUID sessionId) {
+        StudigmaPrincipal principal = jwtService.verifyAccessToken(accessToken);
+        assertThat(principal.getUserId()).isEqualTo(user.getId());
+        assertThat(principal.getSessionId()).isEqualTo(sessionId.toString());
+    }
+
+    private static void assertRejected(Runnable call, AuthError error) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(InvalidCredentialsException.class,
+                        e -> assertThat(e.getError()).isEqualTo(error));
+    }
+
+    private static RefreshRequest request(boolean includeUser) {
+        RefreshRequest request = new RefreshRequest();
+        request.setRefreshToken(PRESENTED);
+        request.setIncludeUser(includeUser);
+        return request;
+    }
+
+    private static JwtProperties jwtProperties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-key-that-is-long-enough-for-hs256");
+        properties.setAccessExpiration(60_000);
+        properties.setRefreshExpiration(600_000);
+        return properties;
+    }
+
+    private static JwtServiceImpl jwtService(JwtProperties properties) {
+        JwtServiceImpl service = new JwtServiceImpl(properties);
+        service.init();
+        return service;
+    }
+
+    private UserService transactional(UserServiceImpl service) {
+        ProxyFactory proxy = new ProxyFactory(service);
+        proxy.addAdvice(new TransactionInterceptor(transactions, new AnnotationTransactionAttributeSource()));
+        return (UserService) proxy.getProxy();
+    }
+
+    private static final class RecordingTransactionManager implements PlatformTransactionManager {
+
+        int commits;
+        int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+}